@@ -0,0 +1,96 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.ui.ExtendedModelMap;
+import org.springframework.ui.Model;
+import service.AdminServiceImpl;
+import service.EventServiceImpl;
+import service.FavoriteCounter;
+import service.FavoriteServiceImpl;
+import service.ModelFanOut;
+import service.RoomServiceImpl;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admin event overview: loads every event, applies the filters and sorts the result,
+ * including the favorite counts for the popularity sort.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AdminServiceBenchmark {
+
+	@Param({ "1000", "10000", "100000" })
+	private int eventCount;
+
+	@Param({ "1000", "100000" })
+	private int userCount;
+
+	@Param({ "datetime", "name", "price_desc", "popularity" })
+	private String sort;
+
+	private AdminServiceImpl adminService;
+	private ModelFanOut modelFanOut;
+
+	@Setup
+	public void setUp() {
+		BenchmarkData data = BenchmarkData.generate(eventCount, userCount, 42L);
+
+		EventServiceImpl eventService = new EventServiceImpl();
+		ReflectionTestUtils.setField(eventService, "eventRepository", InMemoryRepositories.events(data));
+
+		RoomServiceImpl roomService = new RoomServiceImpl();
+		ReflectionTestUtils.setField(roomService, "roomRepository", InMemoryRepositories.rooms(data));
+
+		FavoriteServiceImpl favoriteService = new FavoriteServiceImpl();
+		ReflectionTestUtils.setField(favoriteService, "userRepository", InMemoryRepositories.users(data));
+		// Not loaded, so favorite counts are still aggregated from the repository
+		ReflectionTestUtils.setField(favoriteService, "favoriteCounter", new FavoriteCounter());
+
+		modelFanOut = new ModelFanOut(Executors.newFixedThreadPool(2), null, 2, Duration.ofSeconds(10));
+
+		adminService = new AdminServiceImpl();
+		ReflectionTestUtils.setField(adminService, "eventService", eventService);
+		ReflectionTestUtils.setField(adminService, "roomService", roomService);
+		ReflectionTestUtils.setField(adminService, "favoriteService", favoriteService);
+		ReflectionTestUtils.setField(adminService, "modelFanOut", modelFanOut);
+	}
+
+	@TearDown
+	public void tearDown() {
+		modelFanOut.close();
+	}
+
+	@Benchmark
+	public Model unfiltered() {
+		Model model = new ExtendedModelMap();
+		adminService.prepareAdminEventsModel(model, null, null, null, null, null, sort);
+		return model;
+	}
+
+	@Benchmark
+	public Model filtered() {
+		Model model = new ExtendedModelMap();
+		adminService.prepareAdminEventsModel(model, BenchmarkData.FIRST_DAY.plusDays(1),
+				BenchmarkData.FIRST_DAY.plusDays(3), null, 60.0, "spring", sort);
+		return model;
+	}
+}
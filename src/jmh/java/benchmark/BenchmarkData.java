@@ -0,0 +1,138 @@
+package benchmark;
+
+import domain.Event;
+import domain.MyUser;
+import domain.Room;
+import domain.Speaker;
+import util.Role;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic conference dataset for the benchmarks. Events are spread over the
+ * conference week in half-hour slots, so every room/slot pair is used at most once,
+ * and every user marks up to five events as favorite.
+ */
+final class BenchmarkData {
+
+	static final LocalDate FIRST_DAY = LocalDate.of(2025, 6, 1);
+	static final int DAYS = 7;
+	static final int SLOTS_PER_DAY = 20;
+	static final int MAX_FAVORITES = 5;
+
+	private static final String[] TOPICS = { "Java", "Spring", "Cloud", "Security", "Kotlin", "Data", "DevOps",
+			"Testing", "Frontend", "Architecture" };
+
+	final List<Room> rooms = new ArrayList<>();
+	final List<Speaker> speakers = new ArrayList<>();
+	final List<Event> events = new ArrayList<>();
+	final List<MyUser> users = new ArrayList<>();
+
+	private BenchmarkData() {
+	}
+
+	static BenchmarkData generate(int eventCount, int userCount, long seed) {
+		Random random = new Random(seed);
+		BenchmarkData data = new BenchmarkData();
+
+		int slotCount = DAYS * SLOTS_PER_DAY;
+		int roomCount = Math.max(1, (eventCount + slotCount - 1) / slotCount);
+		for (int i = 0; i < roomCount; i++) {
+			Room room = new Room();
+			room.setId((long) i + 1);
+			room.setName(String.format("Room %04d", i + 1));
+			room.setCapacity(20 + random.nextInt(30));
+			data.rooms.add(room);
+		}
+
+		int speakerCount = Math.max(10, eventCount / 10);
+		for (int i = 0; i < speakerCount; i++) {
+			data.speakers.add(Speaker.builder()
+					.id((long) i + 1)
+					.name("Speaker " + (i + 1))
+					.events(new ArrayList<>())
+					.build());
+		}
+
+		for (int i = 0; i < eventCount; i++) {
+			int slot = i % slotCount;
+			LocalDateTime dateTime = FIRST_DAY.plusDays(slot / SLOTS_PER_DAY)
+					.atTime(LocalTime.of(8, 0).plusMinutes(30L * (slot % SLOTS_PER_DAY)));
+			int beamerCode = 1000 + random.nextInt(9000);
+
+			List<Speaker> eventSpeakers = new ArrayList<>();
+			int speakersPerEvent = 1 + random.nextInt(3);
+			for (int s = 0; s < speakersPerEvent; s++) {
+				Speaker speaker = data.speakers.get(random.nextInt(speakerCount));
+				if (!eventSpeakers.contains(speaker)) {
+					eventSpeakers.add(speaker);
+				}
+			}
+
+			data.events.add(Event.builder()
+					.id((long) i + 1)
+					.name(TOPICS[random.nextInt(TOPICS.length)] + " session " + (i + 1))
+					.description("Talk about " + TOPICS[random.nextInt(TOPICS.length)].toLowerCase())
+					.speakers(eventSpeakers)
+					.room(data.rooms.get(i / slotCount))
+					.dateTime(dateTime)
+					.beamerCode(beamerCode)
+					.beamerCheck(beamerCode % 97)
+					.price(BigDecimal.valueOf(999 + random.nextInt(9000), 2))
+					.build());
+		}
+
+		for (int i = 0; i < userCount; i++) {
+			Set<Event> favorites = new HashSet<>();
+			int favoriteCount = eventCount == 0 ? 0 : random.nextInt(MAX_FAVORITES + 1);
+			for (int f = 0; f < favoriteCount; f++) {
+				favorites.add(data.events.get(random.nextInt(eventCount)));
+			}
+			data.users.add(MyUser.builder()
+					.id(i + 1)
+					.username("user" + (i + 1))
+					.password("{noop}password")
+					.role(Role.USER)
+					.favorites(favorites)
+					.build());
+		}
+
+		return data;
+	}
+
+	Map<Long, Long> eventsPerRoom() {
+		Map<Long, Long> counts = new HashMap<>();
+		for (Event event : events) {
+			counts.merge(event.getRoom().getId(), 1L, Long::sum);
+		}
+		return counts;
+	}
+
+	/**
+	 * An event for a slot that is still free in the first room, as a user would post it
+	 * from the add form.
+	 */
+	Event newEventCandidate() {
+		LocalDateTime dateTime = FIRST_DAY.atTime(LocalTime.of(7, 45));
+		return Event.builder()
+				.name("Benchmark keynote")
+				.description("Fresh event")
+				.speakers(new ArrayList<>())
+				.room(rooms.get(0))
+				.dateTime(dateTime)
+				.beamerCode(1234)
+				.beamerCheck(1234 % 97)
+				.price(new BigDecimal("19.99"))
+				.build();
+	}
+}
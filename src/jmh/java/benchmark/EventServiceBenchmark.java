@@ -0,0 +1,49 @@
+package benchmark;
+
+import domain.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import service.EventServiceImpl;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventServiceBenchmark {
+
+	@Param({ "1000", "10000", "100000" })
+	private int eventCount;
+
+	private EventServiceImpl eventService;
+	private LocalDate day;
+
+	@Setup
+	public void setUp() {
+		BenchmarkData data = BenchmarkData.generate(eventCount, 0, 42L);
+
+		eventService = new EventServiceImpl();
+		ReflectionTestUtils.setField(eventService, "eventRepository", InMemoryRepositories.events(data));
+		day = BenchmarkData.FIRST_DAY.plusDays(BenchmarkData.DAYS / 2);
+	}
+
+	@Benchmark
+	public List<Event> getEventsByDate() {
+		return eventService.getEventsByDate(day);
+	}
+}
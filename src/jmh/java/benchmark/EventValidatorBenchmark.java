@@ -0,0 +1,76 @@
+package benchmark;
+
+import domain.Event;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.support.StaticMessageSource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.Errors;
+import repository.EventRepository;
+import service.RoomOccupancyIndex;
+import service.ValidationServiceImpl;
+import validation.EventValidator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validation of a posted event form, once for a new event and once for an edit of an
+ * existing one. Room availability is answered by a loaded {@link RoomOccupancyIndex}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventValidatorBenchmark {
+
+	@Param({ "1000", "10000", "100000" })
+	private int eventCount;
+
+	private EventValidator validator;
+	private Event newEvent;
+	private Event existingEvent;
+
+	@Setup
+	public void setUp() {
+		BenchmarkData data = BenchmarkData.generate(eventCount, 0, 42L);
+		EventRepository eventRepository = InMemoryRepositories.events(data);
+
+		RoomOccupancyIndex occupancyIndex = new RoomOccupancyIndex();
+		ReflectionTestUtils.setField(occupancyIndex, "eventRepository", eventRepository);
+		occupancyIndex.load();
+
+		ValidationServiceImpl validationService = new ValidationServiceImpl();
+		ReflectionTestUtils.setField(validationService, "eventRepository", eventRepository);
+		ReflectionTestUtils.setField(validationService, "occupancyIndex", occupancyIndex);
+
+		validator = new EventValidator(validationService, new StaticMessageSource());
+		newEvent = data.newEventCandidate();
+		existingEvent = data.events.get(eventCount / 2);
+	}
+
+	@Benchmark
+	public Errors validateNewEvent() {
+		Errors errors = new BeanPropertyBindingResult(newEvent, "event");
+		validator.validate(newEvent, errors);
+		return errors;
+	}
+
+	@Benchmark
+	public Errors validateExistingEvent() {
+		Errors errors = new BeanPropertyBindingResult(existingEvent, "event");
+		validator.validate(existingEvent, errors);
+		return errors;
+	}
+}
@@ -0,0 +1,151 @@
+package benchmark;
+
+import DTO.RoomWithEventCount;
+import domain.Event;
+import domain.MyUser;
+import domain.Room;
+import org.springframework.data.domain.Sort;
+import repository.EventRepository;
+import repository.RoomRepository;
+import repository.UserRepository;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Repository fakes backed by a {@link BenchmarkData} set. Only the query methods the
+ * benchmarked services call are answered; lookups are pre-indexed the way the database
+ * indexes them, so the measurements stay focused on the service code.
+ */
+final class InMemoryRepositories {
+
+	private static final Comparator<Event> SCHEDULE_ORDER = Comparator.comparing(Event::getDateTime)
+			.thenComparing(Event::getName)
+			.thenComparing(Event::getId);
+
+	private InMemoryRepositories() {
+	}
+
+	static EventRepository events(BenchmarkData data) {
+		NavigableMap<LocalDateTime, List<Event>> schedule = new TreeMap<>();
+		Set<String> roomSlots = new HashSet<>();
+		Map<String, List<Long>> namesPerDay = new HashMap<>();
+		List<Object[]> slotRows = new ArrayList<>();
+
+		for (Event event : data.events) {
+			schedule.computeIfAbsent(event.getDateTime(), key -> new ArrayList<>()).add(event);
+			roomSlots.add(event.getRoom().getId() + "@" + event.getDateTime());
+			namesPerDay.computeIfAbsent(nameKey(event.getName(), event.getDateTime().toLocalDate()),
+					key -> new ArrayList<>()).add(event.getId());
+			slotRows.add(new Object[] { event.getId(), event.getRoom().getId(), event.getDateTime() });
+		}
+
+		Map<String, Function<Object[], Object>> handlers = new HashMap<>();
+		handlers.put("findAll", args -> new ArrayList<>(data.events));
+		handlers.put("findAllWithSpeakers", args -> new ArrayList<>(data.events));
+		handlers.put("findScheduleBetween", args -> {
+			List<Event> result = new ArrayList<>();
+			schedule.subMap((LocalDateTime) args[0], true, (LocalDateTime) args[1], false).values()
+					.forEach(result::addAll);
+			result.sort(SCHEDULE_ORDER);
+			return result;
+		});
+		handlers.put("findAllRoomSlots", args -> new ArrayList<>(slotRows));
+		// The seeded events start on whole minutes, so the one-minute range only matches its start
+		handlers.put("existsByRoomIdAndDateTimeGreaterThanEqualAndDateTimeLessThan",
+				args -> roomSlots.contains(args[0] + "@" + args[1]));
+		handlers.put("existsByNameIgnoreCaseAndDateTimeGreaterThanEqualAndDateTimeLessThan",
+				args -> namesPerDay.containsKey(nameKey((String) args[0], ((LocalDateTime) args[1]).toLocalDate())));
+		handlers.put("existsByNameIgnoreCaseAndDateTimeGreaterThanEqualAndDateTimeLessThanAndIdNot", args -> {
+			List<Long> ids = namesPerDay.get(nameKey((String) args[0], ((LocalDateTime) args[1]).toLocalDate()));
+			return ids != null && ids.stream().anyMatch(id -> !id.equals(args[3]));
+		});
+		return proxy(EventRepository.class, handlers);
+	}
+
+	static UserRepository users(BenchmarkData data) {
+		Map<Long, Long> favoriteCounts = new HashMap<>();
+		for (MyUser user : data.users) {
+			for (Event favorite : user.getFavorites()) {
+				favoriteCounts.merge(favorite.getId(), 1L, Long::sum);
+			}
+		}
+		List<Object[]> rows = new ArrayList<>();
+		favoriteCounts.forEach((eventId, count) -> rows.add(new Object[] { eventId, count }));
+
+		Map<String, Function<Object[], Object>> handlers = new HashMap<>();
+		handlers.put("countFavoritesPerEvent", args -> new ArrayList<>(rows));
+		return proxy(UserRepository.class, handlers);
+	}
+
+	static RoomRepository rooms(BenchmarkData data) {
+		Map<Long, Long> eventCounts = data.eventsPerRoom();
+
+		Map<String, Function<Object[], Object>> handlers = new HashMap<>();
+		handlers.put("findAll", args -> new ArrayList<>(data.rooms));
+		handlers.put("findRoomsWithEventCounts", args -> {
+			Integer capacity = (Integer) args[0];
+			String search = args[1] == null ? null : ((String) args[1]).toLowerCase();
+			List<RoomWithEventCount> result = new ArrayList<>();
+			for (Room room : data.rooms) {
+				if ((capacity == null || room.getCapacity() >= capacity)
+						&& (search == null || room.getName().toLowerCase().contains(search))) {
+					result.add(new RoomWithEventCount(room.getId(), room.getName(), room.getCapacity(),
+							eventCounts.getOrDefault(room.getId(), 0L)));
+				}
+			}
+			result.sort(comparatorFor((Sort) args[2]));
+			return result;
+		});
+		return proxy(RoomRepository.class, handlers);
+	}
+
+	private static Comparator<RoomWithEventCount> comparatorFor(Sort sort) {
+		Comparator<RoomWithEventCount> comparator = (a, b) -> 0;
+		for (Sort.Order order : sort) {
+			Comparator<RoomWithEventCount> next = "capacity".equals(order.getProperty())
+					? Comparator.comparing(RoomWithEventCount::getCapacity)
+					: Comparator.comparing(RoomWithEventCount::getName,
+							order.isIgnoreCase() ? String.CASE_INSENSITIVE_ORDER : Comparator.naturalOrder());
+			comparator = comparator.thenComparing(order.isDescending() ? next.reversed() : next);
+		}
+		return comparator;
+	}
+
+	private static String nameKey(String name, LocalDate date) {
+		return name.toLowerCase() + "@" + date;
+	}
+
+	private static <T> T proxy(Class<T> type, Map<String, Function<Object[], Object>> handlers) {
+		InvocationHandler handler = (proxy, method, args) -> {
+			if (method.getDeclaringClass() == Object.class) {
+				return switch (method.getName()) {
+					case "equals" -> proxy == args[0];
+					case "hashCode" -> System.identityHashCode(proxy);
+					default -> "InMemory" + type.getSimpleName();
+				};
+			}
+			if (method.isDefault()) {
+				return InvocationHandler.invokeDefault(proxy, method, args);
+			}
+			Function<Object[], Object> answer = handlers.get(method.getName());
+			if (answer == null) {
+				throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+			}
+			return answer.apply(args);
+		};
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, handler));
+	}
+}
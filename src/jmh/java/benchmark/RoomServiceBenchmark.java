@@ -0,0 +1,55 @@
+package benchmark;
+
+import DTO.RoomWithEventCount;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import service.RoomServiceImpl;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RoomServiceBenchmark {
+
+	@Param({ "1000", "10000", "100000" })
+	private int eventCount;
+
+	@Param({ "name", "capacity" })
+	private String sort;
+
+	private RoomServiceImpl roomService;
+
+	@Setup
+	public void setUp() {
+		BenchmarkData data = BenchmarkData.generate(eventCount, 0, 42L);
+
+		roomService = new RoomServiceImpl();
+		ReflectionTestUtils.setField(roomService, "roomRepository", InMemoryRepositories.rooms(data));
+		ReflectionTestUtils.setField(roomService, "eventRepository", InMemoryRepositories.events(data));
+	}
+
+	@Benchmark
+	public List<RoomWithEventCount> unfiltered() {
+		return roomService.filterRoomsWithEventCount(null, null, sort);
+	}
+
+	@Benchmark
+	public List<RoomWithEventCount> filtered() {
+		return roomService.filterRoomsWithEventCount(30, "room 00", sort);
+	}
+}
@@ -0,0 +1,40 @@
+package DTO;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import domain.Event;
+import domain.Speaker;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import util.DateTimeSerializer;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventDto {
+    private Long id;
+    private String name;
+    private String description;
+
+    @JsonSerialize(using = DateTimeSerializer.class)
+    private LocalDateTime dateTime;
+
+    private BigDecimal price;
+    private Long roomId;
+    private String roomName;
+    private List<Long> speakerIds;
+
+
+    public static EventDto from(Event event) {
+        return new EventDto(event.getId(), event.getName(), event.getDescription(), event.getDateTime(),
+                event.getPrice(),
+                event.getRoom() != null ? event.getRoom().getId() : null,
+                event.getRoom() != null ? event.getRoom().getName() : null,
+                event.getSpeakers() != null ? event.getSpeakers().stream().map(Speaker::getId).toList() : List.of());
+    }
+}
@@ -0,0 +1,17 @@
+package DTO;
+
+import domain.Room;
+import lombok.Value;
+
+// Immutable, so one cached instance can be shared by every request
+@Value
+public class RoomDto {
+    Long id;
+    String name;
+    Integer capacity;
+
+
+    public static RoomDto from(Room room) {
+        return new RoomDto(room.getId(), room.getName(), room.getCapacity());
+    }
+}
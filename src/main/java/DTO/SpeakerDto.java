@@ -0,0 +1,14 @@
+package DTO;
+
+import domain.Speaker;
+import lombok.Value;
+
+@Value
+public class SpeakerDto {
+    Long id;
+    String name;
+
+    public static SpeakerDto from(Speaker speaker) {
+        return new SpeakerDto(speaker.getId(), speaker.getName());
+    }
+}
@@ -0,0 +1,25 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class AllocationMetricsConfig {
+
+	@Bean
+	FilterRegistrationBean<AllocationMetricsFilter> allocationMetricsFilter(MeterRegistry meterRegistry) {
+		FilterRegistrationBean<AllocationMetricsFilter> registration = new FilterRegistrationBean<>(
+				new AllocationMetricsFilter(meterRegistry));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 5);
+		return registration;
+	}
+
+	@Bean
+	AllocationsEndpoint allocationsEndpoint(MeterRegistry meterRegistry) {
+		return new AllocationsEndpoint(meterRegistry);
+	}
+}
@@ -0,0 +1,76 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.sun.management.ThreadMXBean;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Records the heap bytes the request thread allocated while handling a request, per
+ * handler method. Work handed off to other threads is not included. Does nothing on
+ * JVMs without thread allocation accounting.
+ * <p>
+ * The JVM reports -1 for virtual threads, so with {@code spring.threads.virtual.enabled}
+ * no requests are recorded; measure allocations on platform threads instead.
+ */
+public class AllocationMetricsFilter extends OncePerRequestFilter {
+
+	public static final String METRIC_NAME = "http.server.requests.allocated";
+
+	private final MeterRegistry meterRegistry;
+	private final ThreadMXBean threads;
+
+	public AllocationMetricsFilter(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+		this.threads = allocationTrackingThreads();
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		if (threads == null) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+
+		long before = threads.getCurrentThreadAllocatedBytes();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			long after = threads.getCurrentThreadAllocatedBytes();
+			if (before >= 0 && after >= 0) {
+				record(request, after - before);
+			}
+		}
+	}
+
+	private void record(HttpServletRequest request, long allocated) {
+		DistributionSummary.builder(METRIC_NAME)
+				.description("Heap bytes allocated by the request thread")
+				.baseUnit("bytes")
+				.tag("handler", QueryMetricsFilter.handlerName(request))
+				.publishPercentileHistogram()
+				.register(meterRegistry)
+				.record(allocated);
+	}
+
+	private static ThreadMXBean allocationTrackingThreads() {
+		if (!(ManagementFactory.getThreadMXBean() instanceof ThreadMXBean threads)
+				|| !threads.isThreadAllocatedMemorySupported()) {
+			return null;
+		}
+		if (!threads.isThreadAllocatedMemoryEnabled()) {
+			threads.setThreadAllocatedMemoryEnabled(true);
+		}
+		return threads;
+	}
+}
@@ -0,0 +1,44 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@code /actuator/allocations}: handlers ranked by the heap they allocated since startup.
+ */
+@Endpoint(id = "allocations")
+public class AllocationsEndpoint {
+
+	private static final int DEFAULT_LIMIT = 10;
+
+	private final MeterRegistry meterRegistry;
+
+	public AllocationsEndpoint(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@ReadOperation
+	public List<HandlerAllocation> topAllocators(@Nullable Integer limit) {
+		return meterRegistry.find(AllocationMetricsFilter.METRIC_NAME).summaries().stream()
+				.map(AllocationsEndpoint::toAllocation)
+				.sorted(Comparator.comparingDouble(HandlerAllocation::totalBytes).reversed())
+				.limit(limit != null && limit > 0 ? limit : DEFAULT_LIMIT)
+				.toList();
+	}
+
+	private static HandlerAllocation toAllocation(DistributionSummary summary) {
+		return new HandlerAllocation(summary.getId().getTag("handler"), summary.count(), summary.totalAmount(),
+				summary.mean(), summary.max());
+	}
+
+	public record HandlerAllocation(String handler, long requests, double totalBytes, double meanBytes,
+			double maxBytes) {
+	}
+}
@@ -0,0 +1,40 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+	public static final String ROOMS = "rooms";
+	public static final String SPEAKERS = "speakers";
+	public static final String USER_ROLES = "userRoles";
+	public static final String ROOM_EVENT_COUNTS = "roomEventCounts";
+
+	@Bean
+	CacheManager cacheManager(Environment environment) {
+		CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+		cacheManager.setAllowNullValues(false);
+
+		for (String name : new String[] { ROOMS, SPEAKERS, USER_ROLES, ROOM_EVENT_COUNTS }) {
+			cacheManager.registerCustomCache(name, buildCache(environment, name));
+		}
+
+		return cacheManager;
+	}
+
+	// The specs live in application.properties only.
+	// Stats are recorded so Spring Boot binds cache.gets/cache.puts meters for each cache.
+	private Cache<Object, Object> buildCache(Environment environment, String name) {
+		String spec = environment.getRequiredProperty("app.cache." + name + ".spec");
+		return Caffeine.from(spec).recordStats().build();
+	}
+}
@@ -1,13 +1,17 @@
 package com.springboot.EWDJ_IT_conferentie;
 
+import DTO.SpeakerDto;
 import domain.Event;
 import domain.MyUser;
 import domain.Room;
 import domain.Speaker;
 import exceptions.EventNotFoundException;
+import exceptions.RoomOccupiedException;
 import jakarta.servlet.http.HttpSession;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,18 +21,22 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 import service.EventService;
+import service.FavoriteService;
+import service.ModelFanOut;
 import service.RoomService;
 import service.SpeakerService;
 import service.UserService;
+import util.EventCursor;
+import util.EventSort;
 import validation.EventValidator;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 @RequestMapping("/events")
@@ -49,59 +57,53 @@ public class EventController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private FavoriteService favoriteService;
+
+    @Autowired
+    private ModelFanOut modelFanOut;
+
+    @Value("${app.events.page-size:50}")
+    private int eventsPageSize;
+
     @GetMapping({"", "/"})
     public String listEvents(Model model,
                              @RequestParam(required = false) String date,
                              @RequestParam(required = false) Long room,
                              @RequestParam(required = false, defaultValue = "datetime") String sort,
+                             @RequestParam(required = false) String cursor,
                              @AuthenticationPrincipal UserDetails userDetails) {
 
-        List<Event> events = findFilteredEvents(date, room, sort);
-        model.addAttribute("events", events);
-        model.addAttribute("rooms", roomService.getAllRooms());
-
+        CompletableFuture<Set<Long>> favoriteIds = null;
         if (userDetails != null) {
             String username = userDetails.getUsername();
-            model.addAttribute("isAdmin", userService.isAdmin(username));
+            favoriteIds = modelFanOut.supply(() -> userService.getFavoriteEventIds(username));
+        }
 
-            MyUser user = userService.findByUsername(username);
-            model.addAttribute("userFavorites", user.getFavorites());
+        // The events stay on the request thread so the view can still lazy load their speakers.
+        Window<Event> events = findFilteredEvents(date, room, sort, cursor);
+        model.addAttribute("events", events.getContent());
+        if (events.hasNext()) {
+            model.addAttribute("nextCursor", EventCursor.encode(events.positionAt(events.size() - 1)));
+        }
+        // Rooms and roles are cached, loading them inline costs no extra connection.
+        model.addAttribute("rooms", roomService.getAllRooms());
+
+        if (userDetails != null) {
+            model.addAttribute("isAdmin", userService.isAdmin(userDetails.getUsername()));
+            model.addAttribute("userFavorites", modelFanOut.join(favoriteIds));
         }
 
         return "events/list";
     }
 
-    private List<Event> findFilteredEvents(String dateStr, Long roomId, String sortBy) {
-        List<Event> events = eventService.findAll();
-
+    private Window<Event> findFilteredEvents(String dateStr, Long roomId, String sortBy, String cursor) {
+        LocalDate date = null;
         if (dateStr != null && !dateStr.isEmpty()) {
-            LocalDate date = LocalDate.parse(dateStr, DateTimeFormatter.ISO_DATE);
-            events = events.stream()
-                    .filter(e -> e.getDateTime() != null &&
-                            e.getDateTime().toLocalDate().equals(date))
-                    .collect(Collectors.toList());
-        }
-
-        if (roomId != null) {
-            events = events.stream()
-                    .filter(e -> e.getRoom() != null &&
-                            e.getRoom().getId() == roomId)
-                    .collect(Collectors.toList());
-        }
-
-        if ("datetime".equalsIgnoreCase(sortBy)) {
-            events.sort(Comparator.comparing(Event::getDateTime,
-                    Comparator.nullsLast(Comparator.naturalOrder())));
-        } else if ("name".equalsIgnoreCase(sortBy)) {
-            events.sort(Comparator.comparing(Event::getName,
-                    Comparator.nullsFirst(Comparator.naturalOrder())));
-        } else if ("room".equalsIgnoreCase(sortBy)) {
-            events.sort(Comparator.comparing(
-                    e -> e.getRoom() != null ? e.getRoom().getName() : "",
-                    Comparator.nullsLast(Comparator.naturalOrder())));
+            date = LocalDate.parse(dateStr, DateTimeFormatter.ISO_DATE);
         }
 
-        return events;
+        return eventService.findFilteredEvents(date, roomId, EventSort.fromParam(sortBy), cursor, eventsPageSize);
     }
 
     @GetMapping("/{id}")
@@ -112,6 +114,7 @@ public class EventController {
             // EventNotFoundException is now thrown by findById if event doesn't exist
             
             model.addAttribute("event", eventOpt.get());
+            model.addAttribute("favoriteCount", favoriteService.getFavoriteCount(id));
 
             if (userDetails != null && userService.isAdmin(userDetails.getUsername())) {
                 String returnUrl = (String) session.getAttribute("adminEventsUrl");
@@ -205,6 +208,12 @@ public class EventController {
             eventService.save(event);
             redirectAttributes.addFlashAttribute("message", "Event created successfully");
             return "redirect:/admin/events";
+        } catch (RoomOccupiedException e) {
+            // Another event took the room after validation passed
+            result.rejectValue("room", RoomOccupiedException.ERROR_CODE, e.getMessage());
+            prepareModelForForm(model, event, speaker1Id, speaker2Id, speaker3Id,
+                    beamerCheck != null ? beamerCheck : String.valueOf(calculateBeamerCheck(event.getBeamerCode())));
+            return "events/form";
         } catch (Exception e) {
             result.rejectValue(null, null, e.getMessage());
             prepareModelForForm(model, event, speaker1Id, speaker2Id, speaker3Id,
@@ -281,6 +290,11 @@ public class EventController {
             eventService.save(event);
             redirectAttributes.addFlashAttribute("message", "Event updated successfully");
             return "redirect:/admin/events";
+        } catch (RoomOccupiedException e) {
+            result.rejectValue("room", RoomOccupiedException.ERROR_CODE, e.getMessage());
+            prepareModelForForm(model, event, speaker1Id, speaker2Id, speaker3Id,
+                    beamerCheck != null ? beamerCheck : String.valueOf(calculateBeamerCheck(event.getBeamerCode())));
+            return "events/form";
         } catch (Exception e) {
             result.rejectValue("", "", e.getMessage());
             prepareModelForForm(model, event, speaker1Id, speaker2Id, speaker3Id,
@@ -297,28 +311,14 @@ public class EventController {
             }
         }
 
-        List<Speaker> speakers = new ArrayList<>();
-
-        if (speaker1Id != null && speaker1Id > 0) {
-            Speaker speaker1 = speakerService.findById(speaker1Id);
-            if (speaker1 != null) {
-                speakers.add(speaker1);
+        List<Long> speakerIds = new ArrayList<>();
+        for (Long speakerId : new Long[] { speaker1Id, speaker2Id, speaker3Id }) {
+            if (speakerId != null && speakerId > 0) {
+                speakerIds.add(speakerId);
             }
         }
 
-        if (speaker2Id != null && speaker2Id > 0) {
-            Speaker speaker2 = speakerService.findById(speaker2Id);
-            if (speaker2 != null) {
-                speakers.add(speaker2);
-            }
-        }
-
-        if (speaker3Id != null && speaker3Id > 0) {
-            Speaker speaker3 = speakerService.findById(speaker3Id);
-            if (speaker3 != null) {
-                speakers.add(speaker3);
-            }
-        }
+        List<Speaker> speakers = new ArrayList<>(speakerService.findAllByIds(speakerIds));
 
         event.setSpeakers(speakers);
     }
@@ -327,7 +327,7 @@ public class EventController {
         model.addAttribute("event", event);
         model.addAttribute("rooms", roomService.getAllRooms());
 
-        List<Speaker> speakers = speakerService.findAll();
+        List<SpeakerDto> speakers = speakerService.findAll();
         model.addAttribute("allSpeakers", speakers);
         model.addAttribute("speakers", speakers);
 
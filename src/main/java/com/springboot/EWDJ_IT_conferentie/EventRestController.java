@@ -1,12 +1,19 @@
 package com.springboot.EWDJ_IT_conferentie;
 
+import DTO.EventDto;
 import domain.Event;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 import service.EventService;
+import service.ScheduleStreamService;
 import service.UserService;
 
 import java.time.LocalDate;
@@ -24,26 +31,53 @@ public class EventRestController {
     private EventService eventService;
     @Autowired
     private UserService userService;
+    @Autowired
+    private ScheduleStreamService scheduleStreamService;
+    @Autowired
+    private ScheduleChangeBroadcaster scheduleChangeBroadcaster;
+    @Autowired
+    private FavoriteCountBroadcaster favoriteCountBroadcaster;
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamScheduleChanges(@RequestParam(required = false) String date,
+                                            @RequestParam(required = false) Long roomId,
+                                            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return scheduleChangeBroadcaster.subscribe(date != null ? parseDate(date) : null, roomId, lastEventId);
+    }
+
+    @GetMapping(value = "/favorites/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamFavoriteCounts(@RequestParam(required = false) Long eventId) {
+        return favoriteCountBroadcaster.subscribe(eventId);
+    }
 
     @GetMapping(value = "/{date}")
     public List<Event> getEventsByDate(@PathVariable String date) {
-        LocalDate parsedDate;
+        return eventService.getEventsByDate(parseDate(date));
+    }
+
+    @GetMapping(value = "/{date}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EventDto> streamEventsByDate(@PathVariable String date) {
+        return scheduleStreamService.streamEventsByDate(parseDate(date));
+    }
 
+    @GetMapping(value = "/user/{username}/favorites")
+    public List<Event> getUserFavorites(@PathVariable String username) {
+        return userService.getSortedUserFavorites(username);
+    }
+
+    @GetMapping(value = "/user/{username}/favorites", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EventDto> streamUserFavorites(@PathVariable String username) {
+        return scheduleStreamService.streamUserFavorites(username);
+    }
+
+    private LocalDate parseDate(String date) {
         try {
             if (date.contains("-") && date.matches("\\d{2}-\\d{2}-\\d{4}")) {
-                parsedDate = LocalDate.parse(date, DASH_DATE_FORMATTER);
-            } else {
-                parsedDate = LocalDate.parse(date);
+                return LocalDate.parse(date, DASH_DATE_FORMATTER);
             }
+            return LocalDate.parse(date);
         } catch (DateTimeParseException e) {
             throw new IllegalArgumentException("Invalid date format: " + date);
         }
-
-        return eventService.getEventsByDate(parsedDate);
-    }
-
-    @GetMapping(value = "/user/{username}/favorites")
-    public List<Event> getUserFavorites(@PathVariable String username) {
-        return userService.getSortedUserFavorites(username);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,33 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import service.ModelFanOut;
+
+@Configuration
+public class FanOutConfig {
+
+	// Loaders may use at most half of the connection pool; the request threads joining them keep the rest.
+	@Bean(destroyMethod = "close")
+	ModelFanOut modelFanOut(PlatformTransactionManager transactionManager,
+			@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+			@Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+			@Value("${app.fan-out.timeout:2s}") Duration timeout) {
+		int maxConcurrentLoads = Math.max(1, connectionPoolSize / 2);
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		ExecutorService executor = virtualThreads ? Executors.newVirtualThreadPerTaskExecutor()
+				: Executors.newFixedThreadPool(maxConcurrentLoads, new CustomizableThreadFactory("model-fan-out-"));
+		return new ModelFanOut(executor, readOnly, maxConcurrentLoads, timeout);
+	}
+}
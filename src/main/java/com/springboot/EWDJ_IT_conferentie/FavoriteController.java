@@ -28,7 +28,7 @@ public class FavoriteController {
         }
 
         try {
-            favoriteService.toggleFavorite(id, userDetails.getUsername());
+            favoriteService.addFavorite(id, userDetails.getUsername());
             redirectAttributes.addFlashAttribute("message", "Event added to favorites");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
@@ -48,7 +48,7 @@ public class FavoriteController {
         }
 
         try {
-            favoriteService.toggleFavorite(id, userDetails.getUsername());
+            favoriteService.removeFavorite(id, userDetails.getUsername());
             redirectAttributes.addFlashAttribute("message", "Event removed from favorites");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
@@ -0,0 +1,99 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import service.FavoriteCounter;
+
+/**
+ * Pushes the favorite counts that changed in the last interval to Server-Sent Events
+ * subscribers, as one {@code favorites} event per flush. Every update carries the new
+ * total next to the delta, so a client that missed a flush is corrected by the next
+ * one. Subscribers either follow a single event (detail page) or all events (admin
+ * dashboard). As with {@link ScheduleChangeBroadcaster}, only the flush writes to the
+ * emitters.
+ */
+public class FavoriteCountBroadcaster {
+
+	private final FavoriteCounter favoriteCounter;
+	private final Duration timeout;
+	private final long heartbeatMillis;
+
+	private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+	private long lastHeartbeat = System.currentTimeMillis();
+
+	public FavoriteCountBroadcaster(FavoriteCounter favoriteCounter, MeterRegistry meterRegistry, Duration timeout,
+			Duration heartbeat) {
+		this.favoriteCounter = favoriteCounter;
+		this.timeout = timeout;
+		this.heartbeatMillis = heartbeat.toMillis();
+
+		Gauge.builder("app.favorites.stream.subscribers", subscribers, Set::size)
+				.description("Open favorite count streams")
+				.register(meterRegistry);
+	}
+
+	public SseEmitter subscribe(Long eventId) {
+		SseEmitter emitter = new SseEmitter(timeout.toMillis());
+		Subscriber subscriber = new Subscriber(emitter, eventId);
+
+		emitter.onCompletion(() -> subscribers.remove(subscriber));
+		emitter.onTimeout(() -> subscribers.remove(subscriber));
+		emitter.onError(e -> subscribers.remove(subscriber));
+		subscribers.add(subscriber);
+		return emitter;
+	}
+
+	@Scheduled(fixedDelayString = "${app.favorites.live.interval:PT0.5S}")
+	public void flush() {
+		Map<Long, Long> deltas = favoriteCounter.drainDeltas();
+
+		long now = System.currentTimeMillis();
+		boolean heartbeat = now - lastHeartbeat >= heartbeatMillis;
+		if (heartbeat) {
+			lastHeartbeat = now;
+		}
+		if (deltas.isEmpty() && !heartbeat) {
+			return;
+		}
+
+		List<FavoriteCountUpdate> updates = new ArrayList<>(deltas.size());
+		deltas.forEach((eventId, delta) -> updates
+				.add(new FavoriteCountUpdate(eventId, delta, favoriteCounter.getCount(eventId))));
+
+		for (Subscriber subscriber : subscribers) {
+			List<FavoriteCountUpdate> matching = subscriber.eventId == null ? updates
+					: updates.stream().filter(update -> subscriber.eventId.equals(update.eventId())).toList();
+			if (!matching.isEmpty()) {
+				write(subscriber, SseEmitter.event().name("favorites").data(matching, MediaType.APPLICATION_JSON));
+			} else if (heartbeat) {
+				write(subscriber, SseEmitter.event().comment("heartbeat"));
+			}
+		}
+	}
+
+	private void write(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+		try {
+			subscriber.emitter.send(event);
+		} catch (IOException | IllegalStateException e) {
+			subscribers.remove(subscriber);
+		}
+	}
+
+	public record FavoriteCountUpdate(Long eventId, long delta, int count) {
+	}
+
+	private record Subscriber(SseEmitter emitter, Long eventId) {
+	}
+}
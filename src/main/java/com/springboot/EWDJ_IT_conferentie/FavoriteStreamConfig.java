@@ -0,0 +1,21 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import service.FavoriteCounter;
+
+@Configuration
+public class FavoriteStreamConfig {
+
+	@Bean
+	FavoriteCountBroadcaster favoriteCountBroadcaster(FavoriteCounter favoriteCounter, MeterRegistry meterRegistry,
+			@Value("${app.favorites.live.timeout:30m}") Duration timeout,
+			@Value("${app.favorites.live.heartbeat:30s}") Duration heartbeat) {
+		return new FavoriteCountBroadcaster(favoriteCounter, meterRegistry, timeout, heartbeat);
+	}
+}
@@ -16,12 +16,16 @@ import service.AdminService;
 import service.AdminServiceImpl;
 import service.EventService;
 import service.EventServiceImpl;
+import service.FavoriteCounter;
 import service.FavoriteService;
 import service.FavoriteServiceImpl;
 import service.LoginService;
 import service.LoginServiceImpl;
+import service.RoomOccupancyIndex;
 import service.RoomService;
 import service.RoomServiceImpl;
+import service.ScheduleStreamService;
+import service.ScheduleStreamServiceImpl;
 import service.SpeakerService;
 import service.SpeakerServiceImpl;
 import service.UserDetailsServiceImpl;
@@ -100,6 +104,21 @@ public class ITConferenceApplication implements WebMvcConfigurer {
 		return new RoomServiceImpl();
 	}
 
+	@Bean
+	RoomOccupancyIndex roomOccupancyIndex() {
+		return new RoomOccupancyIndex();
+	}
+
+	@Bean
+	FavoriteCounter favoriteCounter() {
+		return new FavoriteCounter();
+	}
+
+	@Bean
+	ScheduleStreamService ScheduleStreamServiceImpl() {
+		return new ScheduleStreamServiceImpl();
+	}
+
 	/* VALIDATOR */
 
 	@Bean
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Random;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -19,8 +20,8 @@ import domain.Room;
 import domain.Speaker;
 import repository.EventRepository;
 import repository.RoomRepository;
-import repository.SpeakerRepository;
 import repository.UserRepository;
+import service.SpeakerService;
 import util.Role;
 
 
@@ -37,24 +38,33 @@ public class InitDataConfig implements CommandLineRunner {
 	private RoomRepository roomRepository;
 
 	@Autowired
-	private  SpeakerRepository speakerRepository;
+	private SpeakerService speakerService;
+
+	@Autowired
+	private ScaleDataSeeder scaleDataSeeder;
+
+	@Value("${app.seed.scale.enabled:false}")
+	private boolean scaleSeedEnabled;
 
 	private final PasswordEncoder encoder = new BCryptPasswordEncoder();
 	private final Random random = new Random();
 
 	@Override
 	public void run(String... args) throws Exception {
+		// BCrypt is slow on purpose, so every seeded user shares a single hash.
+		String password = encoder.encode("password");
+
 		List<MyUser> users = new ArrayList<>();
-		users.add(MyUser.builder().username("admin").password(encoder.encode("password")).role(Role.ADMIN).build());
-		users.add(MyUser.builder().username("johnadmin").password(encoder.encode("password")).role(Role.ADMIN).build());
-		users.add(MyUser.builder().username("Alice").password(encoder.encode("password")).role(Role.USER).build());
-		users.add(MyUser.builder().username("Bob").password(encoder.encode("password")).role(Role.USER).build());
-		users.add(MyUser.builder().username("Charlie").password(encoder.encode("password")).role(Role.USER).build());
-		users.add(MyUser.builder().username("Diana").password(encoder.encode("password")).role(Role.USER).build());
-		users.add(MyUser.builder().username("Ethan").password(encoder.encode("password")).role(Role.USER).build());
-		users.add(MyUser.builder().username("Fiona").password(encoder.encode("password")).role(Role.USER).build());
-		users.add(MyUser.builder().username("George").password(encoder.encode("password")).role(Role.USER).build());
-		users.add(MyUser.builder().username("Hannah").password(encoder.encode("password")).role(Role.USER).build());
+		users.add(MyUser.builder().username("admin").password(password).role(Role.ADMIN).build());
+		users.add(MyUser.builder().username("johnadmin").password(password).role(Role.ADMIN).build());
+		users.add(MyUser.builder().username("Alice").password(password).role(Role.USER).build());
+		users.add(MyUser.builder().username("Bob").password(password).role(Role.USER).build());
+		users.add(MyUser.builder().username("Charlie").password(password).role(Role.USER).build());
+		users.add(MyUser.builder().username("Diana").password(password).role(Role.USER).build());
+		users.add(MyUser.builder().username("Ethan").password(password).role(Role.USER).build());
+		users.add(MyUser.builder().username("Fiona").password(password).role(Role.USER).build());
+		users.add(MyUser.builder().username("George").password(password).role(Role.USER).build());
+		users.add(MyUser.builder().username("Hannah").password(password).role(Role.USER).build());
 		userRepository.saveAll(users);
 
 
@@ -102,7 +112,7 @@ public class InitDataConfig implements CommandLineRunner {
 		speakers.add(Speaker.builder().name("Xavier Chen").build());
 		speakers.add(Speaker.builder().name("Yasmine Ali").build());
 
-		speakerRepository.saveAll(speakers);
+		speakerService.saveAll(speakers);
 
 		List<LocalDateTime> timeSlots = new ArrayList<>();
 		for (int day = 1; day <= 10; day++) {
@@ -279,6 +289,10 @@ public class InitDataConfig implements CommandLineRunner {
 
 		eventRepository.saveAll(events);
 		setFavoritesForUsers(users, events);
+
+		if (scaleSeedEnabled) {
+			scaleDataSeeder.seed(password);
+		}
 	}
 
 
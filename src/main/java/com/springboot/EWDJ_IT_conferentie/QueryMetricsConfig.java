@@ -0,0 +1,39 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import util.QueryCountingDataSource;
+
+@Configuration
+public class QueryMetricsConfig {
+
+	@Bean
+	static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+					return new QueryCountingDataSource(dataSource);
+				}
+				return bean;
+			}
+		};
+	}
+
+	@Bean
+	FilterRegistrationBean<QueryMetricsFilter> queryMetricsFilter(MeterRegistry meterRegistry,
+			@Value("${app.query-budget.max-statements:20}") int statementBudget) {
+		FilterRegistrationBean<QueryMetricsFilter> registration = new FilterRegistrationBean<>(
+				new QueryMetricsFilter(meterRegistry, statementBudget));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+		return registration;
+	}
+}
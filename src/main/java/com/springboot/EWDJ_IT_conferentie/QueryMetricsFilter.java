@@ -0,0 +1,148 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.extern.slf4j.Slf4j;
+import util.QueryStats;
+
+/**
+ * Collects the JDBC statements of each request. The totals are sent back in a
+ * {@code Server-Timing} header, recorded per handler method in Micrometer and logged
+ * when a request goes over the statement budget. The header is written when the
+ * response starts, so queries issued while a view renders only show up in the metrics.
+ */
+@Slf4j
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+	private final MeterRegistry meterRegistry;
+	private final int statementBudget;
+
+	public QueryMetricsFilter(MeterRegistry meterRegistry, int statementBudget) {
+		this.meterRegistry = meterRegistry;
+		this.statementBudget = statementBudget;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		QueryStats stats = QueryStats.start();
+		ServerTimingResponse timedResponse = new ServerTimingResponse(response, stats);
+		try {
+			filterChain.doFilter(request, timedResponse);
+		} finally {
+			QueryStats.stop();
+			timedResponse.writeServerTiming();
+			record(request, stats);
+		}
+	}
+
+	private void record(HttpServletRequest request, QueryStats stats) {
+		String handler = handlerName(request);
+
+		DistributionSummary.builder("http.server.requests.jdbc.statements")
+				.description("JDBC statements executed per request")
+				.tag("handler", handler)
+				.publishPercentileHistogram()
+				.register(meterRegistry)
+				.record(stats.getStatements());
+		DistributionSummary.builder("http.server.requests.jdbc.rows")
+				.description("Rows returned or changed by JDBC statements per request")
+				.tag("handler", handler)
+				.register(meterRegistry)
+				.record(stats.getRows());
+		Timer.builder("http.server.requests.jdbc.time")
+				.description("Time spent executing JDBC statements per request")
+				.tag("handler", handler)
+				.register(meterRegistry)
+				.record(stats.getNanos(), TimeUnit.NANOSECONDS);
+
+		if (statementBudget > 0 && stats.getStatements() > statementBudget) {
+			log.warn("{} {} ({}) executed {} statements, budget is {} ({} rows, {} ms)", request.getMethod(),
+					request.getRequestURI(), handler, stats.getStatements(), statementBudget, stats.getRows(),
+					String.format(Locale.ROOT, "%.1f", stats.getMillis()));
+		}
+	}
+
+	static String handlerName(HttpServletRequest request) {
+		Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+		if (handler instanceof HandlerMethod method) {
+			return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+		}
+		return "none";
+	}
+
+	static String serverTiming(QueryStats stats) {
+		return String.format(Locale.ROOT, "db;dur=%.1f;desc=\"%d statements, %d rows\"", stats.getMillis(),
+				stats.getStatements(), stats.getRows());
+	}
+
+	private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+		private final QueryStats stats;
+		private boolean written;
+
+		ServerTimingResponse(HttpServletResponse response, QueryStats stats) {
+			super(response);
+			this.stats = stats;
+		}
+
+		void writeServerTiming() {
+			if (!written && !isCommitted()) {
+				addHeader("Server-Timing", serverTiming(stats));
+			}
+			written = true;
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			writeServerTiming();
+			return super.getOutputStream();
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			writeServerTiming();
+			return super.getWriter();
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			writeServerTiming();
+			super.flushBuffer();
+		}
+
+		@Override
+		public void sendRedirect(String location) throws IOException {
+			writeServerTiming();
+			super.sendRedirect(location);
+		}
+
+		@Override
+		public void sendError(int sc) throws IOException {
+			writeServerTiming();
+			super.sendError(sc);
+		}
+
+		@Override
+		public void sendError(int sc, String msg) throws IOException {
+			writeServerTiming();
+			super.sendError(sc, msg);
+		}
+	}
+}
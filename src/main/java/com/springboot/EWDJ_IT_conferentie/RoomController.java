@@ -87,12 +87,7 @@ public class RoomController {
                                     @RequestParam(required = false) String sort) {
 
 
-        List<RoomWithEventCount> rooms = roomService.filterRoomsWithEventCount(null, null, "name");
-
-
-        Optional<RoomWithEventCount> roomOpt = rooms.stream()
-                .filter(room -> room.getId().equals(id))
-                .findFirst();
+        Optional<RoomWithEventCount> roomOpt = roomService.getRoomWithEventCountById(id);
 
         if (roomOpt.isEmpty()) {
             return buildRedirectUrl("redirect:/rooms", capacity, search, sort);
@@ -125,27 +120,15 @@ public class RoomController {
                            RedirectAttributes redirectAttributes) {
         
         try {
-            Optional<Room> roomOpt = roomService.getRoomById(id);
-            if (roomOpt.isEmpty()) {
-                throw new IllegalArgumentException("Invalid room id: " + id);
-            }
-            
-            Room room = roomOpt.get();
-            
-            if (!room.getEvents().isEmpty()) {
-                String errorMsg = messageSource.getMessage("room.delete.events",
-                        new Object[] { room.getEvents().size() }, 
-                        LocaleContextHolder.getLocale());
-                redirectAttributes.addFlashAttribute("error", errorMsg);
-                return buildRedirectUrl("redirect:/rooms", capacity, search, sort);
-            }
-            
-            roomService.deleteById(id);
+            Room room = roomService.deleteById(id);
             
             String message = messageSource.getMessage("room.deleted", 
                     new Object[] { room.getName() },
                     LocaleContextHolder.getLocale());
             redirectAttributes.addFlashAttribute("message", message);
+        } catch (IllegalStateException e) {
+            String errorMsg = messageSource.getMessage("room.delete.disabled", null, LocaleContextHolder.getLocale());
+            redirectAttributes.addFlashAttribute("error", errorMsg);
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", "Error deleting room: " + e.getMessage());
         }
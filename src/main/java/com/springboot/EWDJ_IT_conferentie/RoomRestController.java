@@ -1,10 +1,14 @@
 package com.springboot.EWDJ_IT_conferentie;
 
+import DTO.RoomDto;
 import domain.Room;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import service.RoomService;
+import service.ScheduleStreamService;
 
 import java.util.List;
 import java.util.Optional;
@@ -15,12 +19,19 @@ public class RoomRestController {
 
     @Autowired
     private RoomService roomService;
+    @Autowired
+    private ScheduleStreamService scheduleStreamService;
     
     @GetMapping
-    public List<Room> getAllRooms() {
+    public List<RoomDto> getAllRooms() {
         return roomService.getAllRooms();
     }
 
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<RoomDto> streamAllRooms() {
+        return scheduleStreamService.streamRooms();
+    }
+
     @GetMapping("/{name}/capacity")
     public ResponseEntity<Integer> getRoomCapacity(@PathVariable String name) {
         Optional<Room> room = roomService.getRoomByName(name);
@@ -0,0 +1,260 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+import util.Role;
+
+/**
+ * Seeds a large synthetic conference for load and benchmark runs. Rows are written with
+ * JDBC batches instead of through JPA, every user shares one precomputed password hash,
+ * and favorites follow a Zipf distribution so a few events are far more popular than
+ * the rest. Enabled with {@code app.seed.scale.enabled=true}.
+ */
+@Slf4j
+@Component
+public class ScaleDataSeeder {
+
+	private static final LocalTime FIRST_SLOT = LocalTime.of(8, 0);
+	private static final int SLOT_MINUTES = 30;
+	private static final String[] TOPICS = { "Java", "Spring", "Cloud", "Security", "Kotlin", "Data", "DevOps",
+			"Testing", "Frontend", "Architecture", "Microservices", "Performance" };
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Value("${app.seed.scale.rooms:200}")
+	private int roomCount;
+
+	@Value("${app.seed.scale.speakers:2000}")
+	private int speakerCount;
+
+	@Value("${app.seed.scale.events:20000}")
+	private int eventCount;
+
+	@Value("${app.seed.scale.users:100000}")
+	private int userCount;
+
+	@Value("${app.seed.scale.start-date:2025-06-01}")
+	private String startDate;
+
+	@Value("${app.seed.scale.days:7}")
+	private int days;
+
+	@Value("${app.seed.scale.slots-per-day:20}")
+	private int slotsPerDay;
+
+	@Value("${app.seed.scale.zipf-exponent:1.07}")
+	private double zipfExponent;
+
+	@Value("${app.seed.scale.batch-size:1000}")
+	private int batchSize;
+
+	@Value("${app.favorites.limit:5}")
+	private int favoritesLimit;
+
+	@Value("${app.seed.scale.seed:42}")
+	private long seed;
+
+	public void seed(String passwordHash) {
+		long start = System.currentTimeMillis();
+		Random random = new Random(seed);
+
+		int slotCount = days * slotsPerDay;
+		int events = Math.min(eventCount, roomCount * slotCount);
+		if (events < eventCount) {
+			log.warn("Only {} events fit in {} rooms over {} slots, seeding {} instead of {}", events, roomCount,
+					slotCount, events, eventCount);
+		}
+
+		long[] roomIds = insertRooms(random);
+		long[] speakerIds = insertSpeakers();
+		long[] eventIds = insertEvents(events, slotCount, LocalDate.parse(startDate), roomIds, random);
+		insertEventSpeakers(eventIds, speakerIds, random);
+		long[] userIds = insertUsers(passwordHash);
+		int favorites = insertFavorites(userIds, eventIds, random);
+
+		log.info("Seeded {} rooms, {} speakers, {} events, {} users and {} favorites in {} ms", roomIds.length,
+				speakerIds.length, eventIds.length, userIds.length, favorites, System.currentTimeMillis() - start);
+	}
+
+	private long[] insertRooms(Random random) {
+		long firstId = maxId("room");
+		List<Object[]> rows = new ArrayList<>(roomCount);
+		for (int i = 0; i < roomCount; i++) {
+			rows.add(new Object[] { String.format("S%05d", i + 1), 15 + random.nextInt(36) });
+		}
+		batch("INSERT INTO room (name, capacity) VALUES (?, ?)", rows);
+		return idsAfter("room", firstId);
+	}
+
+	private long[] insertSpeakers() {
+		long firstId = maxId("speakers");
+		List<Object[]> rows = new ArrayList<>(speakerCount);
+		for (int i = 0; i < speakerCount; i++) {
+			rows.add(new Object[] { "Speaker " + (i + 1) });
+		}
+		batch("INSERT INTO speakers (name) VALUES (?)", rows);
+		return idsAfter("speakers", firstId);
+	}
+
+	private long[] insertEvents(int events, int slotCount, LocalDate firstDay, long[] roomIds, Random random) {
+		long firstId = maxId("events");
+		List<Object[]> rows = new ArrayList<>(events);
+		for (int i = 0; i < events; i++) {
+			int slot = i % slotCount;
+			LocalDateTime dateTime = firstDay.plusDays(slot / slotsPerDay)
+					.atTime(FIRST_SLOT.plusMinutes((long) SLOT_MINUTES * (slot % slotsPerDay)));
+			String topic = TOPICS[random.nextInt(TOPICS.length)];
+			int beamerCode = 1000 + random.nextInt(9000);
+
+			rows.add(new Object[] { topic + " session " + (i + 1), "Synthetic talk about " + topic,
+					roomIds[i / slotCount], Timestamp.valueOf(dateTime), beamerCode, beamerCode % 97,
+					BigDecimal.valueOf(999 + random.nextInt(9000), 2) });
+		}
+		batch("INSERT INTO events (name, description, room_id, date_time, beamer_code, beamer_check, price) "
+				+ "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+		return idsAfter("events", firstId);
+	}
+
+	private void insertEventSpeakers(long[] eventIds, long[] speakerIds, Random random) {
+		List<Object[]> rows = new ArrayList<>();
+		for (long eventId : eventIds) {
+			int speakers = 1 + random.nextInt(3);
+			long first = -1;
+			long second = -1;
+			for (int s = 0; s < speakers; s++) {
+				long speakerId = speakerIds[random.nextInt(speakerIds.length)];
+				if (speakerId != first && speakerId != second) {
+					rows.add(new Object[] { eventId, speakerId });
+				}
+				if (s == 0) {
+					first = speakerId;
+				} else {
+					second = speakerId;
+				}
+			}
+		}
+		batch("INSERT INTO event_speakers (event_id, speaker_id) VALUES (?, ?)", rows);
+	}
+
+	private long[] insertUsers(String passwordHash) {
+		long firstId = maxId("users");
+		List<Object[]> rows = new ArrayList<>(userCount);
+		for (int i = 0; i < userCount; i++) {
+			rows.add(new Object[] { String.format("user%07d", i + 1), passwordHash, Role.USER.name() });
+		}
+		batch("INSERT INTO users (username, password, role) VALUES (?, ?, ?)", rows);
+		return idsAfter("users", firstId);
+	}
+
+	private int insertFavorites(long[] userIds, long[] eventIds, Random random) {
+		if (eventIds.length == 0) {
+			return 0;
+		}
+
+		// Rank 1 is the most popular event; ranks are shuffled so popularity does not follow insertion order.
+		List<Long> ranked = new ArrayList<>(eventIds.length);
+		Arrays.stream(eventIds).forEach(ranked::add);
+		Collections.shuffle(ranked, random);
+		double[] cumulative = zipfCumulative(ranked.size());
+
+		int perUser = Math.min(favoritesLimit, ranked.size());
+		List<Object[]> rows = new ArrayList<>();
+		int inserted = 0;
+		long[] picked = new long[perUser];
+		for (long userId : userIds) {
+			int favorites = random.nextInt(perUser + 1);
+			int count = 0;
+			for (int attempt = 0; count < favorites && attempt < favorites * 4; attempt++) {
+				long eventId = ranked.get(sample(cumulative, random.nextDouble()));
+				if (!contains(picked, count, eventId)) {
+					picked[count++] = eventId;
+					rows.add(new Object[] { userId, eventId });
+				}
+			}
+			if (rows.size() >= batchSize * 10) {
+				batch("INSERT INTO user_favorites (user_id, event_id) VALUES (?, ?)", rows);
+				inserted += rows.size();
+				rows.clear();
+			}
+		}
+		batch("INSERT INTO user_favorites (user_id, event_id) VALUES (?, ?)", rows);
+		return inserted + rows.size();
+	}
+
+	private double[] zipfCumulative(int size) {
+		double[] cumulative = new double[size];
+		double total = 0;
+		for (int rank = 1; rank <= size; rank++) {
+			total += 1.0 / Math.pow(rank, zipfExponent);
+			cumulative[rank - 1] = total;
+		}
+		for (int i = 0; i < size; i++) {
+			cumulative[i] /= total;
+		}
+		return cumulative;
+	}
+
+	private static int sample(double[] cumulative, double value) {
+		int index = Arrays.binarySearch(cumulative, value);
+		return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+	}
+
+	private static boolean contains(long[] values, int length, long value) {
+		for (int i = 0; i < length; i++) {
+			if (values[i] == value) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void batch(String sql, List<Object[]> rows) {
+		for (int from = 0; from < rows.size(); from += batchSize) {
+			List<Object[]> chunk = rows.subList(from, Math.min(from + batchSize, rows.size()));
+			jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+				@Override
+				public void setValues(PreparedStatement ps, int i) throws SQLException {
+					Object[] row = chunk.get(i);
+					for (int column = 0; column < row.length; column++) {
+						ps.setObject(column + 1, row[column]);
+					}
+				}
+
+				@Override
+				public int getBatchSize() {
+					return chunk.size();
+				}
+			});
+		}
+	}
+
+	private long maxId(String table) {
+		Long max = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+		return max != null ? max : 0;
+	}
+
+	// Identity values are handed out in insert order, so the new ids line up with the generated rows.
+	private long[] idsAfter(String table, long lastExistingId) {
+		return jdbcTemplate.queryForList("SELECT id FROM " + table + " WHERE id > ? ORDER BY id", Long.class,
+				lastExistingId).stream().mapToLong(Long::longValue).toArray();
+	}
+}
@@ -0,0 +1,207 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import service.ScheduleChange;
+
+/**
+ * Pushes committed schedule changes to Server-Sent Events subscribers. Changes are
+ * collected per event or room and flushed on a fixed delay, so a burst of edits to
+ * the same event goes out as one message. Every flushed change gets an increasing id
+ * and is kept in a bounded ring buffer, which lets a reconnecting client resume from
+ * its {@code Last-Event-ID}. A client that fell further behind than the buffer gets a
+ * {@code reset} event and should reload the schedule, as does a client holding an id
+ * from before a restart.
+ * <p>
+ * All writes to the emitters happen on the flush thread; request threads only queue
+ * new subscribers, so an idle subscriber costs an open connection and nothing else.
+ */
+@Slf4j
+public class ScheduleChangeBroadcaster {
+
+	private final Duration timeout;
+	private final long heartbeatMillis;
+
+	private final Lock pendingLock = new ReentrantLock();
+	private final Map<String, ScheduleChange> pending = new LinkedHashMap<>();
+
+	private final Queue<Subscriber> joining = new ConcurrentLinkedQueue<>();
+	private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+	// Only touched by the flush thread
+	private final Entry[] buffer;
+	private long lastId;
+	private long lastHeartbeat = System.currentTimeMillis();
+
+	private volatile long publishedId;
+
+	public ScheduleChangeBroadcaster(MeterRegistry meterRegistry, int bufferSize, Duration timeout,
+			Duration heartbeat) {
+		this.buffer = new Entry[bufferSize];
+		this.timeout = timeout;
+		this.heartbeatMillis = heartbeat.toMillis();
+
+		Gauge.builder("app.schedule.stream.subscribers", subscribers, Set::size)
+				.description("Open schedule change streams")
+				.register(meterRegistry);
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onScheduleChange(ScheduleChange change) {
+		pendingLock.lock();
+		try {
+			pending.merge(change.key(), change, ScheduleChange::merge);
+		} finally {
+			pendingLock.unlock();
+		}
+	}
+
+	/**
+	 * Opens a stream of changes on the given day and/or in the given room. Without a
+	 * {@code lastEventId} the stream starts with the next change.
+	 */
+	public SseEmitter subscribe(LocalDate date, Long roomId, Long lastEventId) {
+		SseEmitter emitter = new SseEmitter(timeout.toMillis());
+		Subscriber subscriber = new Subscriber(emitter, date, roomId,
+				lastEventId != null ? lastEventId : publishedId);
+
+		emitter.onCompletion(() -> subscriber.closed = true);
+		emitter.onTimeout(() -> subscriber.closed = true);
+		emitter.onError(e -> subscriber.closed = true);
+		joining.add(subscriber);
+		return emitter;
+	}
+
+	@Scheduled(fixedDelayString = "${app.schedule-stream.coalesce-interval:PT0.25S}")
+	public void flush() {
+		List<Entry> flushed = drainPending();
+
+		subscribers.removeIf(subscriber -> subscriber.closed);
+		for (Subscriber subscriber : subscribers) {
+			send(subscriber, flushed);
+		}
+
+		Subscriber subscriber;
+		while ((subscriber = joining.poll()) != null) {
+			if (replay(subscriber)) {
+				subscribers.add(subscriber);
+			}
+		}
+
+		long now = System.currentTimeMillis();
+		if (now - lastHeartbeat >= heartbeatMillis) {
+			lastHeartbeat = now;
+			for (Subscriber open : subscribers) {
+				write(open, SseEmitter.event().comment("heartbeat"));
+			}
+		}
+	}
+
+	int getSubscriberCount() {
+		return subscribers.size() + joining.size();
+	}
+
+	private List<Entry> drainPending() {
+		List<ScheduleChange> changes;
+		pendingLock.lock();
+		try {
+			if (pending.isEmpty()) {
+				return List.of();
+			}
+			changes = new ArrayList<>(pending.values());
+			pending.clear();
+		} finally {
+			pendingLock.unlock();
+		}
+
+		List<Entry> entries = new ArrayList<>(changes.size());
+		for (ScheduleChange change : changes) {
+			Entry entry = new Entry(++lastId, change);
+			buffer[(int) (entry.id() % buffer.length)] = entry;
+			entries.add(entry);
+		}
+		publishedId = lastId;
+		return entries;
+	}
+
+	private boolean replay(Subscriber subscriber) {
+		long oldestId = Math.max(1, lastId - buffer.length + 1);
+		if (subscriber.lastEventId < oldestId - 1 || subscriber.lastEventId > lastId) {
+			log.debug("Client resumed after id {}, oldest buffered change is {}", subscriber.lastEventId, oldestId);
+			if (!write(subscriber, SseEmitter.event().id(Long.toString(lastId)).name("reset").data(lastId))) {
+				return false;
+			}
+			subscriber.lastEventId = lastId;
+			return true;
+		}
+
+		List<Entry> missed = new ArrayList<>();
+		for (long id = subscriber.lastEventId + 1; id <= lastId; id++) {
+			missed.add(buffer[(int) (id % buffer.length)]);
+		}
+		return send(subscriber, missed);
+	}
+
+	private boolean send(Subscriber subscriber, List<Entry> entries) {
+		for (Entry entry : entries) {
+			if (entry.id() <= subscriber.lastEventId || !entry.change().matches(subscriber.date, subscriber.roomId)) {
+				continue;
+			}
+			if (!write(subscriber,
+					SseEmitter.event().id(Long.toString(entry.id())).data(entry.change(), MediaType.APPLICATION_JSON))) {
+				return false;
+			}
+			subscriber.lastEventId = entry.id();
+		}
+		return true;
+	}
+
+	private boolean write(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+		try {
+			subscriber.emitter.send(event);
+			return true;
+		} catch (IOException | IllegalStateException e) {
+			subscriber.closed = true;
+			subscribers.remove(subscriber);
+			return false;
+		}
+	}
+
+	private record Entry(long id, ScheduleChange change) {
+	}
+
+	private static final class Subscriber {
+		private final SseEmitter emitter;
+		private final LocalDate date;
+		private final Long roomId;
+		private long lastEventId;
+		private volatile boolean closed;
+
+		Subscriber(SseEmitter emitter, LocalDate date, Long roomId, long lastEventId) {
+			this.emitter = emitter;
+			this.date = date;
+			this.roomId = roomId;
+			this.lastEventId = lastEventId;
+		}
+	}
+}
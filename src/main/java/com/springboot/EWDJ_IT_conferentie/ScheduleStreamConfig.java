@@ -0,0 +1,23 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+@EnableScheduling
+public class ScheduleStreamConfig {
+
+	@Bean
+	ScheduleChangeBroadcaster scheduleChangeBroadcaster(MeterRegistry meterRegistry,
+			@Value("${app.schedule-stream.buffer-size:1024}") int bufferSize,
+			@Value("${app.schedule-stream.timeout:30m}") Duration timeout,
+			@Value("${app.schedule-stream.heartbeat:30s}") Duration heartbeat) {
+		return new ScheduleChangeBroadcaster(meterRegistry, bufferSize, timeout, heartbeat);
+	}
+}
@@ -0,0 +1,55 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every method of the {@code *Service} interfaces. Histogram and SLO buckets for
+ * {@code app.service.invocations} are set in application.properties; repository calls
+ * are timed by Spring Boot as {@code spring.data.repository.invocations}.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+	public static final String METRIC_NAME = "app.service.invocations";
+
+	private final MeterRegistry meterRegistry;
+
+	public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Around("execution(public * service.*Service.*(..))")
+	public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		String outcome = "SUCCESS";
+		String exception = "none";
+		try {
+			return joinPoint.proceed();
+		} catch (Throwable t) {
+			outcome = "ERROR";
+			exception = t.getClass().getSimpleName();
+			throw t;
+		} finally {
+			sample.stop(Timer.builder(METRIC_NAME)
+					.description("Service method invocations")
+					.tag("service", serviceName(joinPoint))
+					.tag("method", joinPoint.getSignature().getName())
+					.tag("outcome", outcome)
+					.tag("exception", exception)
+					.register(meterRegistry));
+		}
+	}
+
+	// Proxies report either the interface or the implementation, so both map to the interface name.
+	private static String serviceName(ProceedingJoinPoint joinPoint) {
+		String name = joinPoint.getSignature().getDeclaringType().getSimpleName();
+		return name.endsWith("Impl") ? name.substring(0, name.length() - 4) : name;
+	}
+}
@@ -17,10 +17,13 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -30,6 +33,8 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import util.DateTimeDeserializer;
 import util.DateTimeSerializer;
 
@@ -40,10 +45,19 @@ import util.DateTimeSerializer;
 @AllArgsConstructor
 @NoArgsConstructor
 @EqualsAndHashCode(exclude = "id")
-@Table(name = "events")
+@NamedEntityGraph(name = Event.LIST_GRAPH, attributeNodes = @NamedAttributeNode("room"))
+@NamedEntityGraph(name = Event.DETAIL_GRAPH, attributeNodes = { @NamedAttributeNode("room"), @NamedAttributeNode("speakers") })
+@Table(name = "events", indexes = {
+		@Index(name = "idx_events_room_date_time", columnList = "room_id, date_time"),
+		@Index(name = "idx_events_date_time_name", columnList = "date_time, name") })
 public class Event implements Serializable {
 	private static final long serialVersionUID = 1L;
 
+	// Paged listings only join the room; a collection join cannot be limited in SQL.
+	public static final String LIST_GRAPH = "Event.list";
+	// Single events, the day schedule of the API and the admin overview also show the speakers.
+	public static final String DETAIL_GRAPH = "Event.detail";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -56,6 +70,7 @@ public class Event implements Serializable {
 	@JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
     @JsonIdentityReference(alwaysAsId = true)
     @ManyToMany
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "event-speakers")
 	@JoinTable(name = "event_speakers", joinColumns = @JoinColumn(name = "event_id"), inverseJoinColumns = @JoinColumn(name = "speaker_id"))
 	@Size(max = 3, message = "An event can have 3 speakers at most.")
 	private List<Speaker> speakers = new ArrayList<>();
@@ -0,0 +1,13 @@
+package exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public InvalidCursorException(String cursor) {
+        super(String.format("Invalid page cursor : '%s'", cursor));
+    }
+}
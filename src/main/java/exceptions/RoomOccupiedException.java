@@ -0,0 +1,11 @@
+package exceptions;
+
+public class RoomOccupiedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public static final String ERROR_CODE = "error.room.occupied";
+
+    public RoomOccupiedException() {
+        super("The selected room is not available at this time");
+    }
+}
@@ -1,20 +1,75 @@
 package repository;
 
 import domain.Event;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.FluentQuery.FetchableFluentQuery;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
+public interface EventRepository extends JpaRepository<Event, Long>, JpaSpecificationExecutor<Event> {
 
-	@Query("SELECT e FROM Event e WHERE DATE(e.dateTime) = :date ORDER BY e.dateTime, e.name")
-	List<Event> findByDateOrderByDateTimeAndName(LocalDate date);
+	// Only the keyset-scrolled /events listing goes through the fluent specification query
+	@Override
+	@EntityGraph(Event.LIST_GRAPH)
+	<S extends Event, R> R findBy(Specification<Event> spec, Function<FetchableFluentQuery<S>, R> queryFunction);
 
-	boolean existsByRoomIdAndDateTimeEquals(Long roomId, LocalDateTime dateTime);
+	@EntityGraph(Event.DETAIL_GRAPH)
+	Optional<Event> findDetailById(Long id);
+
+	// The admin overview lists and searches every event with its speakers
+	@EntityGraph(Event.DETAIL_GRAPH)
+	@Query("SELECT e FROM Event e")
+	List<Event> findAllWithSpeakers();
+
+	default List<Event> findByDateOrderByDateTimeAndName(LocalDate date) {
+		return findScheduleBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+	}
+
+	@EntityGraph(Event.DETAIL_GRAPH)
+	@Query("SELECT e FROM Event e WHERE e.dateTime >= :start AND e.dateTime < :end ORDER BY e.dateTime, e.name, e.id")
+	List<Event> findScheduleBetween(LocalDateTime start, LocalDateTime end);
+
+	boolean existsByRoomId(Long roomId);
+
+	// Room bookings are compared per minute, the granularity of RoomOccupancyIndex
+	boolean existsByRoomIdAndDateTimeGreaterThanEqualAndDateTimeLessThan(Long roomId, LocalDateTime start,
+			LocalDateTime end);
+
+	boolean existsByRoomIdAndDateTimeGreaterThanEqualAndDateTimeLessThanAndIdNot(Long roomId, LocalDateTime start,
+			LocalDateTime end, Long id);
+
+	@Query("SELECT DISTINCT e.room.id FROM Event e WHERE e.room.id IN :roomIds AND e.dateTime >= :start AND e.dateTime < :end")
+	Set<Long> findBookedRoomIds(Collection<Long> roomIds, LocalDateTime start, LocalDateTime end);
+
+	boolean existsByNameIgnoreCaseAndDateTimeGreaterThanEqualAndDateTimeLessThan(String name, LocalDateTime start,
+			LocalDateTime end);
+
+	boolean existsByNameIgnoreCaseAndDateTimeGreaterThanEqualAndDateTimeLessThanAndIdNot(String name,
+			LocalDateTime start, LocalDateTime end, Long id);
+
+	@Query("SELECT e.id, e.room.id, e.dateTime FROM Event e WHERE e.room IS NOT NULL AND e.dateTime IS NOT NULL")
+	List<Object[]> findAllRoomSlots();
+
+	// Only the event-speakers collection region depends on this table
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_speakers"))
+	@Query(value = "DELETE FROM event_speakers WHERE event_id IN (:eventIds)", nativeQuery = true)
+	int deleteSpeakerLinksByEventIds(Collection<Long> eventIds);
 
 }
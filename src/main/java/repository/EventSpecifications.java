@@ -0,0 +1,47 @@
+package repository;
+
+import domain.Event;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+
+public final class EventSpecifications {
+
+    private EventSpecifications() {
+    }
+
+    public static Specification<Event> onDate(LocalDate date) {
+        if (date == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.and(
+                cb.greaterThanOrEqualTo(root.get("dateTime"), date.atStartOfDay()),
+                cb.lessThan(root.get("dateTime"), date.plusDays(1).atStartOfDay()));
+    }
+
+    public static Specification<Event> inRoom(Long roomId) {
+        if (roomId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("room").get("id"), roomId);
+    }
+
+    /**
+     * Keeps only events that have a value for every property of the sort, which keyset
+     * pagination needs to seek past the last row of a page.
+     */
+    public static Specification<Event> hasSortKeys(Sort sort) {
+        return (root, query, cb) -> cb.and(sort.stream()
+                .map(order -> {
+                    Path<?> path = root;
+                    for (String property : order.getProperty().split("\\.")) {
+                        path = path.get(property);
+                    }
+                    return cb.isNotNull(path);
+                })
+                .toArray(Predicate[]::new));
+    }
+}
@@ -1,8 +1,12 @@
 package repository;
 
+import DTO.RoomWithEventCount;
 import domain.Room;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -11,11 +15,23 @@ import java.util.Optional;
 @Repository
 public interface RoomRepository extends JpaRepository<Room, Long> {
     boolean existsByName(String name);
+
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = "room-by-name")
+    })
     Optional<Room> findByName(String name);
 
-    @Query("SELECT r.id, r.name, r.capacity, COUNT(e.id) " +
+    @Query("SELECT new DTO.RoomWithEventCount(r.id, r.name, r.capacity, COUNT(e.id)) " +
+            "FROM Room r LEFT JOIN Event e ON r.id = e.room.id " +
+            "WHERE (:capacity IS NULL OR r.capacity >= :capacity) " +
+            "AND (:search IS NULL OR LOWER(r.name) LIKE LOWER(CONCAT('%', :search, '%'))) " +
+            "GROUP BY r.id, r.name, r.capacity")
+    List<RoomWithEventCount> findRoomsWithEventCounts(Integer capacity, String search, Sort sort);
+
+    @Query("SELECT new DTO.RoomWithEventCount(r.id, r.name, r.capacity, COUNT(e.id)) " +
             "FROM Room r LEFT JOIN Event e ON r.id = e.room.id " +
-            "GROUP BY r.id, r.name, r.capacity " +
-            "ORDER BY r.name")
-    List<Object[]> findAllRoomsWithEventCounts();
-}
\ No newline at end of file
+            "WHERE r.id = :id " +
+            "GROUP BY r.id, r.name, r.capacity")
+    Optional<RoomWithEventCount> findRoomWithEventCountById(Long id);
+}
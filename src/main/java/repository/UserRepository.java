@@ -1,12 +1,72 @@
 package repository;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import domain.MyUser;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface UserRepository extends JpaRepository<MyUser, Long> {
+
+	// Native writes without a query space make Hibernate drop every second-level cache region.
+	String FAVORITES_SPACE = "user_favorites";
+
 	MyUser findByUsername(String username);
 
+	// Serializes favorite changes of one user, so the limit check and the insert see the same rows
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT u.id FROM MyUser u WHERE u.username = :username")
+	Optional<Long> lockIdByUsername(String username);
+
+	@Query("SELECT f.id FROM MyUser u JOIN u.favorites f WHERE u.username = :username")
+	Set<Long> findFavoriteEventIdsByUsername(String username);
+
+	@Query(value = "SELECT COUNT(*) FROM user_favorites WHERE user_id = :userId AND event_id = :eventId", nativeQuery = true)
+	long countFavorite(Long userId, Long eventId);
+
+	@Query(value = "SELECT COUNT(*) FROM user_favorites WHERE event_id = :eventId", nativeQuery = true)
+	long countFavoritesByEventId(Long eventId);
+
+	/**
+	 * Adds the favorite unless the user already has it or already has {@code limit}
+	 * favorites. Returns 0 when nothing was inserted.
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = FAVORITES_SPACE))
+	@Query(value = "INSERT INTO user_favorites (user_id, event_id) SELECT u.id, :eventId FROM users u WHERE u.id = :userId"
+			+ " AND (SELECT COUNT(*) FROM user_favorites f WHERE f.user_id = :userId) < :limit"
+			+ " AND NOT EXISTS (SELECT 1 FROM user_favorites f WHERE f.user_id = :userId AND f.event_id = :eventId)",
+			nativeQuery = true)
+	int insertFavorite(Long userId, Long eventId, int limit);
+
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = FAVORITES_SPACE))
+	@Query(value = "DELETE FROM user_favorites WHERE user_id = :userId AND event_id = :eventId", nativeQuery = true)
+	int deleteFavorite(Long userId, Long eventId);
+
+	@Query("SELECT f.id, COUNT(u.id) FROM MyUser u JOIN u.favorites f GROUP BY f.id")
+	List<Object[]> countFavoritesPerEvent();
+
+	@Modifying(clearAutomatically = true)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = FAVORITES_SPACE))
+	@Query(value = "DELETE FROM user_favorites WHERE event_id = :eventId", nativeQuery = true)
+	int deleteFavoritesByEventId(Long eventId);
+
+	@Modifying(clearAutomatically = true)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = FAVORITES_SPACE))
+	@Query(value = "DELETE FROM user_favorites WHERE event_id IN (:eventIds)", nativeQuery = true)
+	int deleteFavoritesByEventIds(Collection<Long> eventIds);
+
 }
\ No newline at end of file
@@ -14,6 +14,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,7 +27,10 @@ public class AdminServiceImpl implements AdminService {
 	private RoomService roomService;
 
 	@Autowired
-	private UserService userService;
+	private FavoriteService favoriteService;
+
+	@Autowired
+	private ModelFanOut modelFanOut;
 
 	@Override
 	public void storeAdminEventsUrl(HttpServletRequest request, HttpSession session) {
@@ -40,9 +44,17 @@ public class AdminServiceImpl implements AdminService {
 	public void prepareAdminEventsModel(Model model, LocalDate dateFrom, LocalDate dateTo, Long room, Double priceMax,
 			String search, String sort) {
 
-		List<Event> filteredEvents = getFilteredAndSortedEvents(dateFrom, dateTo, room, priceMax, search, sort);
+		// The overview query fetches rooms and speakers, so its events stay usable once detached.
+		CompletableFuture<List<Event>> allEvents = modelFanOut.supply(eventService::findAllWithSpeakers);
+		CompletableFuture<Map<Long, Integer>> counts = modelFanOut.supply(favoriteService::countFavoritesPerEvent);
+
+		List<Event> events = modelFanOut.join(allEvents);
+		Map<Long, Integer> favoriteCounts = modelFanOut.join(counts);
 
-		Map<Long, Integer> eventFavorites = calculateEventFavorites(filteredEvents);
+		List<Event> filteredEvents = getFilteredAndSortedEvents(events, dateFrom, dateTo, room, priceMax, search,
+				sort, favoriteCounts);
+
+		Map<Long, Integer> eventFavorites = calculateEventFavorites(filteredEvents, favoriteCounts);
 
 		model.addAttribute("events", filteredEvents);
 		model.addAttribute("rooms", roomService.getAllRooms());
@@ -56,10 +68,8 @@ public class AdminServiceImpl implements AdminService {
 		model.addAttribute("sort", sort);
 	}
 
-	private List<Event> getFilteredAndSortedEvents(LocalDate dateFrom, LocalDate dateTo, Long room, Double priceMax,
-			String search, String sort) {
-
-		List<Event> events = eventService.findAll();
+	private List<Event> getFilteredAndSortedEvents(List<Event> events, LocalDate dateFrom, LocalDate dateTo, Long room,
+			Double priceMax, String search, String sort, Map<Long, Integer> favoriteCounts) {
 
 		if (dateFrom != null) {
 			LocalDateTime fromDateTime = dateFrom.atStartOfDay();
@@ -91,12 +101,12 @@ public class AdminServiceImpl implements AdminService {
 					.collect(Collectors.toList());
 		}
 
-		sortEventsList(events, sort);
+		sortEventsList(events, sort, favoriteCounts);
 
 		return events;
 	}
 
-	private void sortEventsList(List<Event> events, String sort) {
+	private void sortEventsList(List<Event> events, String sort, Map<Long, Integer> favoriteCounts) {
 		switch (sort) {
 		case "name":
 			events.sort((e1, e2) -> e1.getName().compareToIgnoreCase(e2.getName()));
@@ -114,27 +124,20 @@ public class AdminServiceImpl implements AdminService {
 			events.sort((e1, e2) -> e2.getDateTime().compareTo(e1.getDateTime()));
 			break;
 		case "popularity":
-			Map<Long, Integer> popularityMap = new HashMap<>();
-			events.forEach(e -> {
-				int count = (int) userService.findAll().stream()
-						.filter(u -> u.getFavorites().stream().anyMatch(fe -> fe.getId().equals(e.getId()))).count();
-				popularityMap.put(e.getId(), count);
-			});
-			events.sort((e1, e2) -> Integer.compare(popularityMap.getOrDefault(e2.getId(), 0),
-					popularityMap.getOrDefault(e1.getId(), 0)));
+			events.sort((e1, e2) -> Integer.compare(favoriteCounts.getOrDefault(e2.getId(), 0),
+					favoriteCounts.getOrDefault(e1.getId(), 0)));
 			break;
 		default:
 			events.sort(Comparator.comparing(Event::getDateTime));
 		}
 	}
 
-	private Map<Long, Integer> calculateEventFavorites(List<Event> events) {
+	private Map<Long, Integer> calculateEventFavorites(List<Event> events, Map<Long, Integer> favoriteCounts) {
 		Map<Long, Integer> eventFavorites = new HashMap<>();
 
 		for (Event event : events) {
-			int count = (int) userService.findAll().stream()
-					.filter(u -> u.getFavorites().stream().anyMatch(fe -> fe.getId().equals(event.getId()))).count();
-			if (count > 0) {
+			Integer count = favoriteCounts.get(event.getId());
+			if (count != null && count > 0) {
 				eventFavorites.put(event.getId(), count);
 			}
 		}
@@ -1,16 +1,23 @@
 package service;
 
 import domain.Event;
+import org.springframework.data.domain.Window;
+import util.EventSort;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface EventService {
     Optional<Event> findById(Long id);
     List<Event> findAll();
+    List<Event> findAllWithSpeakers();
     Event save(Event event);
     void deleteById(Long id);
+    void deleteByIds(Collection<Long> ids);
 
     List<Event> getEventsByDate(LocalDate formattedDate);
+
+    Window<Event> findFilteredEvents(LocalDate date, Long roomId, EventSort sort, String cursor, int pageSize);
 }
\ No newline at end of file
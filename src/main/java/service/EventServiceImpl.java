@@ -1,19 +1,32 @@
 package service;
 
+import DTO.EventDto;
 import domain.Event;
-import domain.MyUser;
 import exceptions.EventNotFoundException;
+import exceptions.RoomOccupiedException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import repository.EventRepository;
+import repository.EventSpecifications;
 import repository.UserRepository;
+import service.RoomOccupancyIndex.RoomDay;
+import util.EventCursor;
+import util.EventSort;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Service
 public class EventServiceImpl implements EventService {
@@ -24,9 +37,15 @@ public class EventServiceImpl implements EventService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private RoomOccupancyIndex occupancyIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     public Optional<Event> findById(Long id) {
-        Optional<Event> event = eventRepository.findById(id);
+        Optional<Event> event = eventRepository.findDetailById(id);
         if (event.isEmpty()) {
             throw new EventNotFoundException("id", id);
         }
@@ -39,49 +58,109 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public List<Event> findAllWithSpeakers() {
+        return eventRepository.findAllWithSpeakers();
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = "roomEventCounts", allEntries = true)
     public Event save(Event event) {
-        return eventRepository.save(event);
+        if (isRoomTaken(event)) {
+            throw new RoomOccupiedException();
+        }
+
+        RoomDay previous = event.getId() != null ? occupancyIndex.findRoomDay(event.getId()).orElse(null) : null;
+        Event saved = eventRepository.save(event);
+        Long roomId = saved.getRoom() != null ? saved.getRoom().getId() : null;
+        afterCommit(() -> occupancyIndex.put(saved.getId(), roomId, saved.getDateTime()));
+        eventPublisher.publishEvent(ScheduleChange.eventSaved(EventDto.from(saved), previous));
+        return saved;
     }
 
     @Override
     @Transactional
+    @CacheEvict(value = "roomEventCounts", allEntries = true)
     public void deleteById(Long id) {
         // Check if event exists before deletion
         if (!eventRepository.existsById(id)) {
             throw new EventNotFoundException("id", id);
         }
 
-        List<MyUser> usersWithFavorite = userRepository.findAll().stream()
-                .filter(user -> user.getFavorites().stream()
-                        .anyMatch(event -> event.getId().equals(id)))
-                .toList();
-        
-        for (MyUser user : usersWithFavorite) {
-            Set<Event> updatedFavorites = user.getFavorites().stream()
-                    .filter(event -> !event.getId().equals(id))
-                    .collect(Collectors.toSet());
-            
-            user.setFavorites(updatedFavorites);
-            userRepository.save(user);
-        }
-        
+        RoomDay previous = occupancyIndex.findRoomDay(id).orElse(null);
+        userRepository.deleteFavoritesByEventId(id);
         eventRepository.deleteById(id);
+        afterCommit(() -> occupancyIndex.remove(id));
+        eventPublisher.publishEvent(ScheduleChange.eventDeleted(id, previous));
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = "roomEventCounts", allEntries = true)
+    public void deleteByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return;
+        }
+
+        List<Long> deletedIds = List.copyOf(ids);
+        List<ScheduleChange> changes = deletedIds.stream()
+                .map(id -> ScheduleChange.eventDeleted(id, occupancyIndex.findRoomDay(id).orElse(null)))
+                .toList();
+
+        userRepository.deleteFavoritesByEventIds(ids);
+        eventRepository.deleteSpeakerLinksByEventIds(ids);
+        eventRepository.deleteAllByIdInBatch(ids);
+        afterCommit(() -> deletedIds.forEach(occupancyIndex::remove));
+        changes.forEach(eventPublisher::publishEvent);
     }
-    
+
     @Override
     @Transactional(readOnly = true)
     public List<Event> getEventsByDate(LocalDate date) {
-        List<Event> events = eventRepository.findByDateOrderByDateTimeAndName(date);
-        
-        return events.stream()
-                .filter(java.util.Objects::nonNull)
-                .collect(Collectors.collectingAndThen(
-                        Collectors.toMap(
-                                Event::getId,
-                                event -> event,
-                                (existing, replacement) -> existing
-                        ),
-                        map -> new java.util.ArrayList<>(map.values())
-                ));
+        return eventRepository.findByDateOrderByDateTimeAndName(date);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Event> findFilteredEvents(LocalDate date, Long roomId, EventSort sort, String cursor, int pageSize) {
+        Specification<Event> spec = Specification.where(EventSpecifications.onDate(date))
+                .and(EventSpecifications.inRoom(roomId))
+                .and(EventSpecifications.hasSortKeys(sort.getSort()));
+        KeysetScrollPosition position = EventCursor.decode(cursor, sort.getSort());
+
+        return eventRepository.findBy(spec, query -> query
+                .sortBy(sort.getSort())
+                .limit(pageSize)
+                .scroll(position));
+    }
+
+    private boolean isRoomTaken(Event event) {
+        if (event.getRoom() == null || event.getRoom().getId() == null || event.getDateTime() == null) {
+            return false;
+        }
+
+        Long roomId = event.getRoom().getId();
+        LocalDateTime minute = event.getDateTime().truncatedTo(ChronoUnit.MINUTES);
+        if (event.getId() == null) {
+            return eventRepository.existsByRoomIdAndDateTimeGreaterThanEqualAndDateTimeLessThan(roomId, minute,
+                    minute.plusMinutes(1));
+        }
+        return eventRepository.existsByRoomIdAndDateTimeGreaterThanEqualAndDateTimeLessThanAndIdNot(roomId, minute,
+                minute.plusMinutes(1), event.getId());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
     }
-}
\ No newline at end of file
+}
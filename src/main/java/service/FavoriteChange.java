@@ -0,0 +1,8 @@
+package service;
+
+/**
+ * A favorite added ({@code delta > 0}) or removed ({@code delta < 0}) by
+ * {@link FavoriteServiceImpl}, counted by {@link FavoriteCounter} once committed.
+ */
+public record FavoriteChange(Long eventId, int delta) {
+}
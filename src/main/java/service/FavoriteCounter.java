@@ -0,0 +1,101 @@
+package service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.event.TransactionalEventListener;
+import repository.UserRepository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live number of favorites per event. The totals are loaded once the application is
+ * ready and then follow every committed {@link FavoriteChange}; changes committed
+ * before that are already part of the loaded totals and are ignored. Deleting an event
+ * drops its counters. Each event has its own
+ * {@link LongAdder}s, so many users toggling the same event never contend on a lock
+ * or database row. Besides the totals, the changes since the last
+ * {@link #drainDeltas()} are kept for the live broadcast.
+ */
+@Slf4j
+public class FavoriteCounter {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private final Map<Long, LongAdder> totals = new ConcurrentHashMap<>();
+	private final Map<Long, LongAdder> deltas = new ConcurrentHashMap<>();
+	private volatile boolean loaded;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		List<Object[]> rows = userRepository.countFavoritesPerEvent();
+		for (Object[] row : rows) {
+			totals.computeIfAbsent((Long) row[0], key -> new LongAdder()).add((Long) row[1]);
+		}
+		loaded = true;
+
+		log.info("Favorite counters loaded for {} events", rows.size());
+	}
+
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onFavoriteChange(FavoriteChange change) {
+		if (!loaded) {
+			return;
+		}
+		totals.computeIfAbsent(change.eventId(), key -> new LongAdder()).add(change.delta());
+		deltas.computeIfAbsent(change.eventId(), key -> new LongAdder()).add(change.delta());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onScheduleChange(ScheduleChange change) {
+		if (change.type() != ScheduleChange.Type.EVENT_DELETED) {
+			return;
+		}
+		LongAdder total = totals.remove(change.eventId());
+		if (total != null && total.sum() != 0) {
+			deltas.computeIfAbsent(change.eventId(), key -> new LongAdder()).add(-total.sum());
+		}
+	}
+
+	public int getCount(Long eventId) {
+		LongAdder total = totals.get(eventId);
+		return total != null ? total.intValue() : 0;
+	}
+
+	public Map<Long, Integer> snapshot() {
+		Map<Long, Integer> counts = new HashMap<>();
+		totals.forEach((eventId, total) -> {
+			int count = total.intValue();
+			if (count > 0) {
+				counts.put(eventId, count);
+			}
+		});
+		return counts;
+	}
+
+	/**
+	 * Returns the net change per event since the previous call, leaving out events
+	 * whose changes cancelled out. The adders stay in place, so a concurrent change is
+	 * either part of this result or of the next one.
+	 */
+	public Map<Long, Long> drainDeltas() {
+		Map<Long, Long> drained = new HashMap<>();
+		deltas.forEach((eventId, delta) -> {
+			long value = delta.sumThenReset();
+			if (value != 0) {
+				drained.put(eventId, value);
+			}
+		});
+		return drained;
+	}
+}
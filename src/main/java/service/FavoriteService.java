@@ -3,8 +3,20 @@ package service;
 
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 
 public interface FavoriteService {
     @Transactional
     void toggleFavorite(Long eventId, String username);
+
+    @Transactional
+    void addFavorite(Long eventId, String username);
+
+    @Transactional
+    void removeFavorite(Long eventId, String username);
+
+    Map<Long, Integer> countFavoritesPerEvent();
+
+    int getFavoriteCount(Long eventId);
 }
\ No newline at end of file
@@ -1,15 +1,17 @@
 package service;
 
-import domain.Event;
-import domain.MyUser;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import repository.EventRepository;
 import repository.UserRepository;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Service
 public class FavoriteServiceImpl implements FavoriteService {
 
@@ -22,31 +24,90 @@ public class FavoriteServiceImpl implements FavoriteService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private FavoriteCounter favoriteCounter;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     @Transactional
     public void toggleFavorite(Long eventId, String username) {
+        Long userId = resolveUserId(eventId, username);
+
+        if (userRepository.countFavorite(userId, eventId) > 0) {
+            deleteFavorite(userId, eventId);
+        } else {
+            insertFavorite(userId, eventId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void addFavorite(Long eventId, String username) {
+        Long userId = resolveUserId(eventId, username);
+
+        if (userRepository.countFavorite(userId, eventId) == 0) {
+            insertFavorite(userId, eventId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void removeFavorite(Long eventId, String username) {
+        Long userId = resolveUserId(eventId, username);
+
+        deleteFavorite(userId, eventId);
+    }
+
+    private Long resolveUserId(Long eventId, String username) {
         if (eventId == null) {
             throw new IllegalArgumentException("Event ID is required");
         }
 
-        Event event = eventRepository.findById(eventId)
-                .orElseThrow(() -> new EntityNotFoundException("Event not found with ID: " + eventId));
+        if (!eventRepository.existsById(eventId)) {
+            throw new EntityNotFoundException("Event not found with ID: " + eventId);
+        }
 
-        MyUser user = userRepository.findByUsername(username);
-        if (user == null) {
-            throw new EntityNotFoundException("User not found: " + username);
+        return userRepository.lockIdByUsername(username)
+                .orElseThrow(() -> new EntityNotFoundException("User not found: " + username));
+    }
+
+    // The user row is locked, so nothing was inserted only if the limit is reached
+    private void insertFavorite(Long userId, Long eventId) {
+        if (userRepository.insertFavorite(userId, eventId, favoritesLimit) == 0) {
+            throw new IllegalStateException("You can only have " + favoritesLimit + " favorites");
         }
+        eventPublisher.publishEvent(new FavoriteChange(eventId, 1));
+    }
 
-        boolean isFavorite = user.getFavorites().contains(event);
-        if (isFavorite) {
-            user.getFavorites().remove(event);
-        } else {
-            if (user.getFavorites().size() >= favoritesLimit) {
-                throw new IllegalStateException("You can only have " + favoritesLimit + " favorites");
-            }
-            user.getFavorites().add(event);
+    private void deleteFavorite(Long userId, Long eventId) {
+        int removed = userRepository.deleteFavorite(userId, eventId);
+        if (removed > 0) {
+            eventPublisher.publishEvent(new FavoriteChange(eventId, -removed));
         }
+    }
 
-        userRepository.save(user);
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> countFavoritesPerEvent() {
+        if (favoriteCounter.isLoaded()) {
+            return favoriteCounter.snapshot();
+        }
+
+        Map<Long, Integer> counts = new HashMap<>();
+        for (Object[] row : userRepository.countFavoritesPerEvent()) {
+            counts.put((Long) row[0], ((Long) row[1]).intValue());
+        }
+        return counts;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public int getFavoriteCount(Long eventId) {
+        if (favoriteCounter.isLoaded()) {
+            return favoriteCounter.getCount(eventId);
+        }
+        return (int) userRepository.countFavoritesByEventId(eventId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionTemplate;
+
+import util.QueryStats;
+
+/**
+ * Loads independent page model attributes concurrently with the request thread, each
+ * in its own read-only transaction. Whatever a loader returns is detached once its
+ * transaction ends, so it should return ids, counts or entities with every association
+ * the view navigates already fetched. Attributes that are already cached are cheaper
+ * to load inline.
+ * <p>
+ * The request thread keeps its own connection while it joins, so at most
+ * {@code maxConcurrentLoads} loaders run at once; once they are all busy the caller
+ * loads the attribute itself instead of waiting for yet another connection. Every load
+ * has a deadline; a late attribute fails the page instead of hanging it.
+ */
+public class ModelFanOut implements AutoCloseable {
+
+	private final ExecutorService executor;
+	private final TransactionTemplate readOnlyTransaction;
+	private final Semaphore permits;
+	private final Duration timeout;
+
+	public ModelFanOut(ExecutorService executor, TransactionTemplate readOnlyTransaction, int maxConcurrentLoads,
+			Duration timeout) {
+		this.executor = executor;
+		this.readOnlyTransaction = readOnlyTransaction;
+		this.permits = new Semaphore(maxConcurrentLoads);
+		this.timeout = timeout;
+	}
+
+	public <T> CompletableFuture<T> supply(Supplier<T> loader) {
+		if (!permits.tryAcquire()) {
+			try {
+				return CompletableFuture.completedFuture(load(loader));
+			} catch (RuntimeException | Error e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+
+		QueryStats requestStats = QueryStats.current();
+		CompletableFuture<T> future;
+		try {
+			future = CompletableFuture.supplyAsync(() -> {
+				QueryStats previous = QueryStats.current();
+				QueryStats.bind(requestStats);
+				try {
+					return load(loader);
+				} finally {
+					QueryStats.bind(previous);
+					permits.release();
+				}
+			}, executor);
+		} catch (RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+		return future.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	private <T> T load(Supplier<T> loader) {
+		return readOnlyTransaction != null ? readOnlyTransaction.execute(status -> loader.get()) : loader.get();
+	}
+
+	public <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof TimeoutException) {
+				throw new IllegalStateException("Loading page data took longer than " + timeout.toMillis() + " ms",
+						cause);
+			}
+			if (cause instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (cause instanceof Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+}
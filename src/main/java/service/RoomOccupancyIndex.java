@@ -0,0 +1,224 @@
+package service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import repository.EventRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of which room is booked at which time, so availability checks on
+ * the event forms don't need a database round trip. Every room/day pair keeps a
+ * bitset with one bit per minute of the day, plus the ids and start minutes of its
+ * events in primitive arrays to tell apart who holds a minute. The index is loaded once the
+ * application is ready and kept up to date by {@link EventServiceImpl} after each
+ * committed save or delete.
+ */
+@Slf4j
+public class RoomOccupancyIndex {
+
+	private static final int MINUTES_PER_DAY = 24 * 60;
+
+	@Autowired
+	private EventRepository eventRepository;
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<RoomDay, DaySlots> slots = new HashMap<>();
+	private final Map<Long, Slot> slotByEvent = new HashMap<>();
+	private volatile boolean loaded;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void load() {
+		List<Object[]> rows = eventRepository.findAllRoomSlots();
+
+		lock.writeLock().lock();
+		try {
+			slots.clear();
+			slotByEvent.clear();
+			for (Object[] row : rows) {
+				add((Long) row[0], (Long) row[1], (LocalDateTime) row[2]);
+			}
+			loaded = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		log.info("Room occupancy index loaded with {} events", rows.size());
+	}
+
+	public boolean isLoaded() {
+		return loaded;
+	}
+
+	public boolean isAvailable(Long roomId, LocalDateTime dateTime) {
+		lock.readLock().lock();
+		try {
+			DaySlots day = slots.get(new RoomDay(roomId, dateTime.toLocalDate()));
+			return day == null || !day.isOccupied(minuteOf(dateTime));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public boolean isAvailableExcluding(Long roomId, LocalDateTime dateTime, Long eventId) {
+		lock.readLock().lock();
+		try {
+			DaySlots day = slots.get(new RoomDay(roomId, dateTime.toLocalDate()));
+			return day == null || !day.isOccupiedByOtherThan(minuteOf(dateTime), eventId);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the rooms of {@code roomIds} that are free at the given time, in the
+	 * order they were given.
+	 */
+	public List<Long> findAvailableRooms(Collection<Long> roomIds, LocalDateTime dateTime) {
+		LocalDate date = dateTime.toLocalDate();
+		int minute = minuteOf(dateTime);
+		List<Long> available = new ArrayList<>();
+
+		lock.readLock().lock();
+		try {
+			for (Long roomId : roomIds) {
+				DaySlots day = slots.get(new RoomDay(roomId, date));
+				if (day == null || !day.isOccupied(minute)) {
+					available.add(roomId);
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return available;
+	}
+
+	public Optional<RoomDay> findRoomDay(Long eventId) {
+		lock.readLock().lock();
+		try {
+			Slot slot = slotByEvent.get(eventId);
+			return slot != null ? Optional.of(slot.roomDay()) : Optional.empty();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public void put(Long eventId, Long roomId, LocalDateTime dateTime) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(eventId);
+			if (roomId != null && dateTime != null) {
+				add(eventId, roomId, dateTime);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long eventId) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(eventId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void add(Long eventId, Long roomId, LocalDateTime dateTime) {
+		Slot slot = new Slot(new RoomDay(roomId, dateTime.toLocalDate()), minuteOf(dateTime));
+		slots.computeIfAbsent(slot.roomDay(), key -> new DaySlots()).add(slot.minute(), eventId);
+		slotByEvent.put(eventId, slot);
+	}
+
+	private void removeInternal(Long eventId) {
+		Slot slot = slotByEvent.remove(eventId);
+		if (slot == null) {
+			return;
+		}
+
+		DaySlots day = slots.get(slot.roomDay());
+		if (day != null) {
+			day.remove(slot.minute(), eventId);
+			if (day.isEmpty()) {
+				slots.remove(slot.roomDay());
+			}
+		}
+	}
+
+	private static int minuteOf(LocalDateTime dateTime) {
+		return dateTime.getHour() * 60 + dateTime.getMinute();
+	}
+
+	public record RoomDay(Long roomId, LocalDate day) {
+	}
+
+	private record Slot(RoomDay roomDay, int minute) {
+	}
+
+	// A room holds a handful of events per day, so linear scans over the arrays are cheap
+	private static final class DaySlots {
+		private final BitSet occupied = new BitSet(MINUTES_PER_DAY);
+		private long[] eventIds = new long[4];
+		private int[] minutes = new int[4];
+		private int size;
+
+		void add(int minute, Long eventId) {
+			if (size == eventIds.length) {
+				eventIds = Arrays.copyOf(eventIds, size * 2);
+				minutes = Arrays.copyOf(minutes, size * 2);
+			}
+			eventIds[size] = eventId;
+			minutes[size] = minute;
+			size++;
+			occupied.set(minute);
+		}
+
+		void remove(int minute, Long eventId) {
+			for (int i = 0; i < size; i++) {
+				if (eventIds[i] == eventId && minutes[i] == minute) {
+					size--;
+					eventIds[i] = eventIds[size];
+					minutes[i] = minutes[size];
+					if (!isHeldByOtherThan(minute, eventId)) {
+						occupied.clear(minute);
+					}
+					return;
+				}
+			}
+		}
+
+		boolean isOccupied(int minute) {
+			return occupied.get(minute);
+		}
+
+		boolean isOccupiedByOtherThan(int minute, Long eventId) {
+			return occupied.get(minute) && isHeldByOtherThan(minute, eventId);
+		}
+
+		boolean isEmpty() {
+			return size == 0;
+		}
+
+		private boolean isHeldByOtherThan(int minute, long eventId) {
+			for (int i = 0; i < size; i++) {
+				if (minutes[i] == minute && eventIds[i] != eventId) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
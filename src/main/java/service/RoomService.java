@@ -1,5 +1,6 @@
 package service;
 
+import DTO.RoomDto;
 import DTO.RoomWithEventCount;
 import domain.Room;
 
@@ -7,11 +8,11 @@ import java.util.List;
 import java.util.Optional;
 
 public interface RoomService {
-    List<Room> getAllRooms();
+    List<RoomDto> getAllRooms();
     Optional<Room> getRoomById(Long id);
     Optional<Room> getRoomByName(String name);
     Room save(Room room);
-    void deleteById(Long id);
+    Room deleteById(Long id);
     boolean existsByName(String name);
 
     List<RoomWithEventCount> filterRoomsWithEventCount(Integer capacity, String search, String sort);
@@ -1,17 +1,21 @@
 package service;
 
 import domain.Room;
+import DTO.RoomDto;
 import DTO.RoomWithEventCount;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import repository.EventRepository;
 import repository.RoomRepository;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @Slf4j
@@ -20,10 +24,17 @@ public class RoomServiceImpl implements RoomService {
     @Autowired
     private RoomRepository roomRepository;
 
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Override
     @Transactional(readOnly = true)
-    public List<Room> getAllRooms() {
-        return roomRepository.findAll();
+    @Cacheable(value = "rooms", key = "'all'")
+    public List<RoomDto> getAllRooms() {
+        return roomRepository.findAll().stream().map(RoomDto::from).toList();
     }
 
     @Override
@@ -39,13 +50,26 @@ public class RoomServiceImpl implements RoomService {
     }
 
     @Override
+    @CacheEvict(value = { "rooms", "roomEventCounts" }, allEntries = true)
     public Room save(Room room) {
-        return roomRepository.save(room);
+        Room saved = roomRepository.save(room);
+        eventPublisher.publishEvent(ScheduleChange.roomSaved(RoomDto.from(saved)));
+        return saved;
     }
 
+    // The only guard against deleting a room with events; the check and the delete share one transaction.
     @Override
-    public void deleteById(Long id) {
-        roomRepository.deleteById(id);
+    @Transactional
+    @CacheEvict(value = { "rooms", "roomEventCounts" }, allEntries = true)
+    public Room deleteById(Long id) {
+        Room room = roomRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid room id: " + id));
+        if (eventRepository.existsByRoomId(id)) {
+            throw new IllegalStateException("Cannot delete a room with scheduled events");
+        }
+        roomRepository.delete(room);
+        eventPublisher.publishEvent(ScheduleChange.roomDeleted(id));
+        return room;
     }
 
     @Override
@@ -56,61 +80,22 @@ public class RoomServiceImpl implements RoomService {
 
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = "roomEventCounts", key = "'capacity'.equals(#sort) ? 'capacity' : 'name'",
+            condition = "(#capacity == null || #capacity <= 0) && (#search == null || #search.trim().isEmpty())")
     public List<RoomWithEventCount> filterRoomsWithEventCount(Integer capacity, String search, String sort) {
+        Integer minCapacity = capacity != null && capacity > 0 ? capacity : null;
+        String searchTerm = search != null && !search.trim().isEmpty() ? search : null;
 
-        List<Object[]> results = roomRepository.findAllRoomsWithEventCounts();
-
-        List<RoomWithEventCount> rooms = results.stream()
-                .map(RoomWithEventCount::new)
-                .collect(Collectors.toList());
+        Sort order = "capacity".equals(sort)
+                ? Sort.by(Sort.Order.desc("capacity"), Sort.Order.asc("name").ignoreCase())
+                : Sort.by(Sort.Order.asc("name").ignoreCase());
 
-
-        if (capacity != null && capacity > 0) {
-            rooms = rooms.stream()
-                    .filter(room -> room.getCapacity() >= capacity)
-                    .collect(Collectors.toList());
-
-        }
-
-        if (search != null && !search.trim().isEmpty()) {
-            String searchLower = search.toLowerCase();
-            rooms = rooms.stream()
-                    .filter(room -> room.getName().toLowerCase().contains(searchLower))
-                    .collect(Collectors.toList());
-
-        }
-
-        if ("capacity".equals(sort)) {
-            rooms = rooms.stream()
-                    .sorted(Comparator.comparing(RoomWithEventCount::getCapacity).reversed())
-                    .collect(Collectors.toList());
-        } else {
-            rooms = rooms.stream()
-                    .sorted(Comparator.comparing(room -> room.getName().toLowerCase()))
-                    .collect(Collectors.toList());
-        }
-
-        return rooms;
+        return roomRepository.findRoomsWithEventCounts(minCapacity, searchTerm, order);
     }
 
+    @Override
+    @Transactional(readOnly = true)
     public Optional<RoomWithEventCount> getRoomWithEventCountById(Long id) {
-        Optional<Room> roomOpt = roomRepository.findById(id);
-
-        if (roomOpt.isEmpty()) {
-            return Optional.empty();
-        }
-
-        Room room = roomOpt.get();
-        Long eventCount = room.getEvents() != null ? (long) room.getEvents().size() : 0L;
-
-
-        RoomWithEventCount roomWithCount = new RoomWithEventCount(
-                room.getId(),
-                room.getName(),
-                room.getCapacity(),
-                eventCount
-        );
-
-        return Optional.of(roomWithCount);
+        return roomRepository.findRoomWithEventCountById(id);
     }
-}
\ No newline at end of file
+}
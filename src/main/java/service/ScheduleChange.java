@@ -0,0 +1,72 @@
+package service;
+
+import java.time.LocalDate;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import DTO.EventDto;
+import DTO.RoomDto;
+import service.RoomOccupancyIndex.RoomDay;
+
+/**
+ * A committed change to the schedule, published by {@link EventServiceImpl} and
+ * {@link RoomServiceImpl}. For events the previous room and day are kept as well, so
+ * subscribers of the old day or room also learn that an event moved away.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ScheduleChange(Type type, Long eventId, Long roomId, LocalDate date, Long previousRoomId,
+		LocalDate previousDate, EventDto event, RoomDto room) {
+
+	public enum Type {
+		EVENT_SAVED, EVENT_DELETED, ROOM_SAVED, ROOM_DELETED
+	}
+
+	public static ScheduleChange eventSaved(EventDto event, RoomDay previous) {
+		return new ScheduleChange(Type.EVENT_SAVED, event.getId(), event.getRoomId(),
+				event.getDateTime() != null ? event.getDateTime().toLocalDate() : null,
+				previous != null ? previous.roomId() : null, previous != null ? previous.day() : null, event, null);
+	}
+
+	public static ScheduleChange eventDeleted(Long eventId, RoomDay previous) {
+		return new ScheduleChange(Type.EVENT_DELETED, eventId, null, null,
+				previous != null ? previous.roomId() : null, previous != null ? previous.day() : null, null, null);
+	}
+
+	public static ScheduleChange roomSaved(RoomDto room) {
+		return new ScheduleChange(Type.ROOM_SAVED, null, room.getId(), null, null, null, null, room);
+	}
+
+	public static ScheduleChange roomDeleted(Long roomId) {
+		return new ScheduleChange(Type.ROOM_DELETED, null, roomId, null, null, null, null, null);
+	}
+
+	/**
+	 * Changes with the same key replace each other when they arrive in the same burst.
+	 */
+	public String key() {
+		return eventId != null ? "event:" + eventId : "room:" + roomId;
+	}
+
+	/**
+	 * Keeps the newest state of {@code later} but the oldest known location, so a burst
+	 * of moves still reaches subscribers of the day or room the event started in.
+	 */
+	public ScheduleChange merge(ScheduleChange later) {
+		if (previousRoomId == null && previousDate == null) {
+			return later;
+		}
+		return new ScheduleChange(later.type, later.eventId, later.roomId, later.date, previousRoomId, previousDate,
+				later.event, later.room);
+	}
+
+	/**
+	 * Room changes concern every day; event changes match on their current or previous
+	 * day and room.
+	 */
+	public boolean matches(LocalDate dateFilter, Long roomFilter) {
+		boolean dateMatches = dateFilter == null || eventId == null || dateFilter.equals(date)
+				|| dateFilter.equals(previousDate);
+		boolean roomMatches = roomFilter == null || roomFilter.equals(roomId) || roomFilter.equals(previousRoomId);
+		return dateMatches && roomMatches;
+	}
+}
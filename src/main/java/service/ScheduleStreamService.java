@@ -0,0 +1,15 @@
+package service;
+
+import java.time.LocalDate;
+
+import DTO.EventDto;
+import DTO.RoomDto;
+import reactor.core.publisher.Flux;
+
+public interface ScheduleStreamService {
+	Flux<EventDto> streamEventsByDate(LocalDate date);
+
+	Flux<EventDto> streamUserFavorites(String username);
+
+	Flux<RoomDto> streamRooms();
+}
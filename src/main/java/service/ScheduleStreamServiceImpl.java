@@ -0,0 +1,89 @@
+package service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Window;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import DTO.EventDto;
+import DTO.RoomDto;
+import domain.Event;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import util.EventCursor;
+import util.EventSort;
+
+/**
+ * Streams schedule data for the NDJSON API. JPA is blocking, so every database call
+ * runs on the bounded elastic scheduler in its own read-only transaction and is mapped
+ * to DTOs before that transaction ends. Events of a day are read page by page, and the
+ * next page is only loaded once the client has consumed the previous one.
+ */
+public class ScheduleStreamServiceImpl implements ScheduleStreamService {
+
+	@Autowired
+	private EventService eventService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private RoomService roomService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${app.api.stream.page-size:100}")
+	private int pageSize;
+
+	@Override
+	public Flux<EventDto> streamEventsByDate(LocalDate date) {
+		return loadPage(date, null)
+				.expand(page -> page.nextCursor() != null ? loadPage(date, page.nextCursor()) : Mono.empty())
+				.concatMapIterable(Page::events);
+	}
+
+	@Override
+	public Flux<EventDto> streamUserFavorites(String username) {
+		return offload(() -> userService.getSortedUserFavorites(username).stream().map(EventDto::from).toList())
+				.flatMapIterable(events -> events);
+	}
+
+	@Override
+	public Flux<RoomDto> streamRooms() {
+		return offload(() -> roomService.getAllRooms())
+				.flatMapIterable(rooms -> rooms);
+	}
+
+	private Mono<Page> loadPage(LocalDate date, String cursor) {
+		return offload(() -> {
+			Window<Event> window = eventService.findFilteredEvents(date, null, EventSort.DATETIME, cursor, pageSize);
+			List<EventDto> events = window.getContent().stream().map(EventDto::from).toList();
+			String nextCursor = window.hasNext() ? EventCursor.encode(window.positionAt(window.size() - 1)) : null;
+			return new Page(events, nextCursor);
+		});
+	}
+
+	private <T> Mono<T> offload(Callable<T> loader) {
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		return Mono.fromCallable(() -> readOnly.execute(status -> {
+			try {
+				return loader.call();
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		})).subscribeOn(Schedulers.boundedElastic());
+	}
+
+	private record Page(List<EventDto> events, String nextCursor) {
+	}
+}
@@ -2,10 +2,15 @@ package service;
 
 import java.util.List;
 
+import DTO.SpeakerDto;
 import domain.Speaker;
 
 public interface SpeakerService {
-	List<Speaker> findAll();
+	List<SpeakerDto> findAll();
 
 	Speaker findById(Long id);
+
+	List<Speaker> findAllByIds(List<Long> ids);
+
+	List<Speaker> saveAll(List<Speaker> speakers);
 }
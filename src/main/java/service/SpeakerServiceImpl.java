@@ -1,11 +1,19 @@
 package service;
 
 import java.util.List;
+import java.util.Objects;
 
+import org.hibernate.Session;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import DTO.SpeakerDto;
 import domain.Speaker;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import repository.SpeakerRepository;
 
 @Service
@@ -14,13 +22,45 @@ public class SpeakerServiceImpl implements SpeakerService {
 	@Autowired
 	SpeakerRepository speakerRepository;
 
+	@PersistenceContext
+	private EntityManager entityManager;
+
 	@Override
-	public List<Speaker> findAll() {
-		return speakerRepository.findAll();
+	@Transactional(readOnly = true)
+	@Cacheable(value = "speakers", key = "'all'")
+	public List<SpeakerDto> findAll() {
+		return speakerRepository.findAll().stream().map(SpeakerDto::from).toList();
 	}
 
 	@Override
 	public Speaker findById(Long id) {
 		return speakerRepository.findById(id).orElse(null);
 	}
+
+	/**
+	 * Loads the speakers in one round trip, in the order of the given ids. Speakers
+	 * already in the second-level cache are not queried. Unknown ids are skipped.
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<Speaker> findAllByIds(List<Long> ids) {
+		if (ids == null || ids.isEmpty()) {
+			return List.of();
+		}
+
+		return entityManager.unwrap(Session.class)
+				.byMultipleIds(Speaker.class)
+				.enableOrderedReturn(true)
+				.multiLoad(ids)
+				.stream()
+				.filter(Objects::nonNull)
+				.toList();
+	}
+
+	@Override
+	@Transactional
+	@CacheEvict(value = "speakers", allEntries = true)
+	public List<Speaker> saveAll(List<Speaker> speakers) {
+		return speakerRepository.saveAll(speakers);
+	}
 }
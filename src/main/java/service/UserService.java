@@ -1,6 +1,7 @@
 package service;
 
 import java.util.List;
+import java.util.Set;
 
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.ui.Model;
@@ -19,5 +20,7 @@ public interface UserService {
 
 	List<Event> getSortedUserFavorites(String username);
 
+	Set<Long> getFavoriteEventIds(String username);
+
 	String prepareUserFavoritesModel(Model model, UserDetails userDetails);
 }
\ No newline at end of file
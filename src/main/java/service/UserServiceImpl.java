@@ -2,9 +2,12 @@ package service;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.ui.Model;
@@ -30,11 +33,13 @@ public class UserServiceImpl implements UserService {
 	}
 
 	@Override
+	@CacheEvict(value = "userRoles", key = "#myUser.username")
 	public MyUser save(MyUser myUser) {
 	return userRepository.save(myUser);
 	}
 
 	@Override
+	@Cacheable(value = "userRoles", key = "#username")
 	public boolean isAdmin(String username) {
 		MyUser user = findByUsername(username);
 		return user != null && user.getRole() == Role.ADMIN;
@@ -53,6 +58,11 @@ public class UserServiceImpl implements UserService {
 				.collect(Collectors.toList());
 	}
 
+	@Override
+	public Set<Long> getFavoriteEventIds(String username) {
+		return userRepository.findFavoriteEventIdsByUsername(username);
+	}
+
 	@Override
 	public String prepareUserFavoritesModel(Model model, UserDetails userDetails) {
 		if (userDetails == null) {
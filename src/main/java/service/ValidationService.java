@@ -2,6 +2,8 @@ package service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 public interface ValidationService {
 	boolean isRoomAvailable(LocalDateTime dateTime, Long roomId);
@@ -13,4 +15,6 @@ public interface ValidationService {
 	boolean existsByNameAndDateExcludingId(String name, LocalDate date, Long eventId);
 
 	boolean isRoomAvailableExcludingEvent(LocalDateTime dateTime, Long roomId, Long eventId);
+
+	List<Long> findAvailableRoomIds(LocalDateTime dateTime, Collection<Long> roomIds);
 }
\ No newline at end of file
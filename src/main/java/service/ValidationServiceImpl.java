@@ -1,13 +1,15 @@
 package service;
 
-import domain.Event;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import repository.EventRepository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 @Service
 public class ValidationServiceImpl implements ValidationService {
@@ -15,41 +17,55 @@ public class ValidationServiceImpl implements ValidationService {
 	@Autowired
 	private EventRepository eventRepository;
 
+	@Autowired
+	private RoomOccupancyIndex occupancyIndex;
+
 	@Override
 	public boolean isRoomAvailable(LocalDateTime dateTime, Long roomId) {
-		return !eventRepository.existsByRoomIdAndDateTimeEquals(roomId, dateTime);
+		if (occupancyIndex.isLoaded()) {
+			return occupancyIndex.isAvailable(roomId, dateTime);
+		}
+		LocalDateTime minute = dateTime.truncatedTo(ChronoUnit.MINUTES);
+		return !eventRepository.existsByRoomIdAndDateTimeGreaterThanEqualAndDateTimeLessThan(roomId, minute,
+				minute.plusMinutes(1));
 	}
 
 	@Override
 	public boolean isEventNameUniqueOnDate(LocalDateTime date, String name) {
-
-        return eventRepository.findAll().stream()
-                .noneMatch(e -> e.getName().equalsIgnoreCase(name) &&
-                         e.getDateTime() != null && 
-                         e.getDateTime().toLocalDate().equals(date.toLocalDate()));
+		LocalDate day = date.toLocalDate();
+		return !eventRepository.existsByNameIgnoreCaseAndDateTimeGreaterThanEqualAndDateTimeLessThan(name,
+				day.atStartOfDay(), day.plusDays(1).atStartOfDay());
 	}
 
 	@Override
 	public boolean existsByNameAndDate(String name, LocalDate date) {
-		return eventRepository.findAll().stream()
-				.anyMatch(e -> e.getName().equals(name) && e.getDateTime().toLocalDate().equals(date));
+		return eventRepository.existsByNameIgnoreCaseAndDateTimeGreaterThanEqualAndDateTimeLessThan(name,
+				date.atStartOfDay(), date.plusDays(1).atStartOfDay());
 	}
 
 	@Override
 	public boolean existsByNameAndDateExcludingId(String name, LocalDate date, Long eventId) {
-		List<Event> eventsOnDate = eventRepository.findAll().stream()
-				.filter(e -> e.getDateTime() != null && e.getDateTime().toLocalDate().equals(date))
-				.toList();
-
-		return eventsOnDate.stream().filter(e -> !e.getId().equals(eventId))
-				.anyMatch(e -> e.getName().equalsIgnoreCase(name));
+		return eventRepository.existsByNameIgnoreCaseAndDateTimeGreaterThanEqualAndDateTimeLessThanAndIdNot(name,
+				date.atStartOfDay(), date.plusDays(1).atStartOfDay(), eventId);
 	}
 
 	@Override
 	public boolean isRoomAvailableExcludingEvent(LocalDateTime dateTime, Long roomId, Long eventId) {
-		List<Event> eventsAtDateTime = eventRepository.findAll().stream().filter(
-				e -> e.getDateTime().equals(dateTime) && e.getRoom().getId() == roomId && !e.getId().equals(eventId))
-				.toList();
-		return eventsAtDateTime.isEmpty();
+		if (occupancyIndex.isLoaded()) {
+			return occupancyIndex.isAvailableExcluding(roomId, dateTime, eventId);
+		}
+		LocalDateTime minute = dateTime.truncatedTo(ChronoUnit.MINUTES);
+		return !eventRepository.existsByRoomIdAndDateTimeGreaterThanEqualAndDateTimeLessThanAndIdNot(roomId, minute,
+				minute.plusMinutes(1), eventId);
+	}
+
+	@Override
+	public List<Long> findAvailableRoomIds(LocalDateTime dateTime, Collection<Long> roomIds) {
+		if (occupancyIndex.isLoaded()) {
+			return occupancyIndex.findAvailableRooms(roomIds, dateTime);
+		}
+		LocalDateTime minute = dateTime.truncatedTo(ChronoUnit.MINUTES);
+		Set<Long> booked = eventRepository.findBookedRoomIds(roomIds, minute, minute.plusMinutes(1));
+		return roomIds.stream().filter(roomId -> !booked.contains(roomId)).toList();
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package util;
+
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import exceptions.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+/**
+ * Opaque cursor token for keyset pagination of events. The token carries the sort
+ * key values of the last event on a page, so the next page can seek past it. Keyset
+ * seeking cannot step past a null key, so listings only page through events that have
+ * every sort key set.
+ */
+public final class EventCursor {
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private EventCursor() {
+	}
+
+	public static String encode(ScrollPosition position) {
+		if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) {
+			return null;
+		}
+
+		StringJoiner joiner = new StringJoiner("&");
+		keyset.getKeys().forEach((key, value) -> joiner.add(key + "=" + encodeValue(value)));
+		return ENCODER.encodeToString(joiner.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Returns the position encoded in the token, or the first page when the token is
+	 * missing. A token that cannot be read or was issued for another sort order is
+	 * rejected rather than silently restarting at the first page.
+	 */
+	public static KeysetScrollPosition decode(String token, Sort sort) {
+		if (token == null || token.isBlank()) {
+			return ScrollPosition.keyset();
+		}
+
+		try {
+			String decoded = new String(DECODER.decode(token), StandardCharsets.UTF_8);
+			Map<String, Object> keys = new LinkedHashMap<>();
+			for (String pair : decoded.split("&")) {
+				int separator = pair.indexOf('=');
+				if (separator <= 0) {
+					throw new InvalidCursorException(token);
+				}
+				String key = pair.substring(0, separator);
+				String value = new String(DECODER.decode(pair.substring(separator + 1)), StandardCharsets.UTF_8);
+				keys.put(key, decodeValue(key, value));
+			}
+
+			Set<String> sortKeys = sort.stream().map(Sort.Order::getProperty).collect(Collectors.toSet());
+			if (!keys.keySet().equals(sortKeys)) {
+				throw new InvalidCursorException(token);
+			}
+			return ScrollPosition.forward(keys);
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new InvalidCursorException(token);
+		}
+	}
+
+	private static String encodeValue(Object value) {
+		if (value == null) {
+			throw new IllegalArgumentException("Cannot encode a cursor past a null sort key");
+		}
+		return ENCODER.encodeToString(value.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static Object decodeValue(String key, String value) {
+		return switch (key) {
+			case "id" -> Long.valueOf(value);
+			case "dateTime" -> LocalDateTime.parse(value);
+			default -> value;
+		};
+	}
+}
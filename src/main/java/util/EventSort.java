@@ -0,0 +1,29 @@
+package util;
+
+import org.springframework.data.domain.Sort;
+
+public enum EventSort {
+	DATETIME(Sort.by("dateTime", "name", "id")),
+	NAME(Sort.by("name", "dateTime", "id")),
+	ROOM(Sort.by("room.name", "dateTime", "name", "id"));
+
+	private final Sort sort;
+
+	EventSort(Sort sort) {
+		this.sort = sort;
+	}
+
+	public Sort getSort() {
+		return sort;
+	}
+
+	public static EventSort fromParam(String value) {
+		if ("name".equalsIgnoreCase(value)) {
+			return NAME;
+		}
+		if ("room".equalsIgnoreCase(value)) {
+			return ROOM;
+		}
+		return DATETIME;
+	}
+}
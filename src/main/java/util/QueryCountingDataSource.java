@@ -0,0 +1,120 @@
+package util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Wraps the application data source so every executed statement, its duration and the
+ * rows it returned or changed are added to the active {@link QueryStats}. Statements run
+ * outside of a collection pass straight through.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+	public QueryCountingDataSource(DataSource target) {
+		super(target);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return wrap(Connection.class, super.getConnection(), this::onConnection);
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return wrap(Connection.class, super.getConnection(username, password), this::onConnection);
+	}
+
+	private Object onConnection(Object target, Method method, Object[] args) throws Throwable {
+		Object result = invoke(target, method, args);
+		if (result instanceof CallableStatement statement) {
+			return wrap(CallableStatement.class, statement, this::onStatement);
+		}
+		if (result instanceof PreparedStatement statement) {
+			return wrap(PreparedStatement.class, statement, this::onStatement);
+		}
+		if (result instanceof Statement statement) {
+			return wrap(Statement.class, statement, this::onStatement);
+		}
+		return result;
+	}
+
+	private Object onStatement(Object target, Method method, Object[] args) throws Throwable {
+		QueryStats stats = QueryStats.current();
+		if (stats == null) {
+			return invoke(target, method, args);
+		}
+
+		String name = method.getName();
+		if (name.equals("getResultSet")) {
+			return countRows(invoke(target, method, args), stats);
+		}
+		if (!name.startsWith("execute")) {
+			return invoke(target, method, args);
+		}
+
+		long start = System.nanoTime();
+		Object result = invoke(target, method, args);
+		stats.recordStatement(System.nanoTime() - start);
+
+		if (result instanceof Integer count && count > 0) {
+			stats.recordRows(count);
+		} else if (result instanceof Long count && count > 0) {
+			stats.recordRows(count);
+		} else if (result instanceof int[] counts) {
+			for (int count : counts) {
+				stats.recordRows(Math.max(count, 0));
+			}
+		}
+		return countRows(result, stats);
+	}
+
+	private Object countRows(Object result, QueryStats stats) {
+		if (!(result instanceof ResultSet resultSet)) {
+			return result;
+		}
+		return wrap(ResultSet.class, resultSet, (target, method, args) -> {
+			Object value = invoke(target, method, args);
+			if (method.getName().equals("next") && Boolean.TRUE.equals(value)) {
+				stats.recordRows(1);
+			}
+			return value;
+		});
+	}
+
+	private static <T> T wrap(Class<T> type, T target, Interceptor interceptor) {
+		InvocationHandler handler = (proxy, method, args) -> {
+			if (method.getName().equals("unwrap") && args != null && args[0] instanceof Class<?> iface
+					&& iface.isInstance(proxy)) {
+				return proxy;
+			}
+			return interceptor.intercept(target, method, args);
+		};
+		return type.cast(Proxy.newProxyInstance(QueryCountingDataSource.class.getClassLoader(),
+				new Class<?>[] { type }, handler));
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+
+	@FunctionalInterface
+	private interface Interceptor {
+		Object intercept(Object target, Method method, Object[] args) throws Throwable;
+	}
+}
@@ -0,0 +1,82 @@
+package util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JDBC statement totals for the work bound to the current thread, usually one HTTP
+ * request. Filled in by {@link QueryCountingDataSource} while a collection is active.
+ * A collection started inside another one also adds its totals to the enclosing one,
+ * which gets bound again when the inner collection stops.
+ */
+public final class QueryStats {
+
+	private static final ThreadLocal<QueryStats> CURRENT = new ThreadLocal<>();
+
+	private final AtomicInteger statements = new AtomicInteger();
+	private final AtomicLong rows = new AtomicLong();
+	private final AtomicLong nanos = new AtomicLong();
+	private final QueryStats enclosing;
+
+	private QueryStats(QueryStats enclosing) {
+		this.enclosing = enclosing;
+	}
+
+	public static QueryStats start() {
+		QueryStats stats = new QueryStats(CURRENT.get());
+		CURRENT.set(stats);
+		return stats;
+	}
+
+	public static QueryStats current() {
+		return CURRENT.get();
+	}
+
+	public static void stop() {
+		QueryStats stats = CURRENT.get();
+		bind(stats != null ? stats.enclosing : null);
+	}
+
+	/**
+	 * Binds the given collection to the current thread, so work handed off to another
+	 * thread is counted with the request that started it.
+	 */
+	public static void bind(QueryStats stats) {
+		if (stats == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(stats);
+		}
+	}
+
+	public void recordStatement(long elapsedNanos) {
+		statements.incrementAndGet();
+		nanos.addAndGet(elapsedNanos);
+		if (enclosing != null) {
+			enclosing.recordStatement(elapsedNanos);
+		}
+	}
+
+	public void recordRows(long count) {
+		rows.addAndGet(count);
+		if (enclosing != null) {
+			enclosing.recordRows(count);
+		}
+	}
+
+	public int getStatements() {
+		return statements.get();
+	}
+
+	public long getRows() {
+		return rows.get();
+	}
+
+	public long getNanos() {
+		return nanos.get();
+	}
+
+	public double getMillis() {
+		return nanos.get() / 1_000_000.0;
+	}
+}
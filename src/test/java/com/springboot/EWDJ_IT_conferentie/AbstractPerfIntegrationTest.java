@@ -0,0 +1,29 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Base class for benchmark and load suites that need the real controllers, repositories
+ * and Hibernate mappings. Runs on the {@code perf} profile, so the application starts on
+ * an in-memory database with the scaled seed data. Subclasses share one cached context.
+ */
+@SpringBootTest(classes = ITConferenceApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("perf")
+public abstract class AbstractPerfIntegrationTest {
+
+    @Autowired
+    protected MockMvc mockMvc;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    protected long countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+}
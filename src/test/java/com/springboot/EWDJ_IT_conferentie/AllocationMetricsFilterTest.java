@@ -0,0 +1,83 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.sun.management.ThreadMXBean;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+public class AllocationMetricsFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private AllocationMetricsFilter filter;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new AllocationMetricsFilter(meterRegistry);
+    }
+
+    @Test
+    public void testRecordsAllocatedBytesPerRequest() throws Exception {
+        FilterChain chain = (request, response) -> response.getWriter().write(new String(new char[100_000]));
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/events"), new MockHttpServletResponse(), chain);
+
+        DistributionSummary summary = meterRegistry.get(AllocationMetricsFilter.METRIC_NAME)
+                .tag("handler", "none").summary();
+        assertEquals(1, summary.count());
+        assertTrue(summary.totalAmount() >= 100_000);
+    }
+
+    @Test
+    public void testSkipsRequestsWithoutAllocationReadingOnVirtualThreads() throws Exception {
+        AtomicBoolean handled = new AtomicBoolean();
+        AtomicBoolean supported = new AtomicBoolean();
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        FilterChain chain = (request, response) -> handled.set(true);
+
+        Thread.ofVirtual().start(() -> {
+            supported.set(((ThreadMXBean) ManagementFactory.getThreadMXBean()).getCurrentThreadAllocatedBytes() >= 0);
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/events"), new MockHttpServletResponse(), chain);
+            } catch (Exception e) {
+                failure.set(e);
+            }
+        }).join();
+
+        assertNull(failure.get());
+        assertTrue(handled.get());
+        DistributionSummary summary = meterRegistry.find(AllocationMetricsFilter.METRIC_NAME).summary();
+        if (supported.get()) {
+            assertTrue(summary.totalAmount() >= 0);
+        } else {
+            assertNull(summary);
+        }
+    }
+
+    @Test
+    public void testEndpointRanksHandlersByTotalBytes() {
+        DistributionSummary.builder(AllocationMetricsFilter.METRIC_NAME).tag("handler", "EventController.listEvents")
+                .register(meterRegistry).record(5_000);
+        DistributionSummary.builder(AllocationMetricsFilter.METRIC_NAME).tag("handler", "AdminController.manageEvents")
+                .register(meterRegistry).record(80_000);
+
+        List<AllocationsEndpoint.HandlerAllocation> top = new AllocationsEndpoint(meterRegistry).topAllocators(1);
+
+        assertEquals(1, top.size());
+        assertEquals("AdminController.manageEvents", top.get(0).handler());
+        assertEquals(80_000, top.get(0).totalBytes());
+    }
+}
@@ -0,0 +1,73 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+
+import exceptions.InvalidCursorException;
+import util.EventCursor;
+import util.EventSort;
+
+public class EventCursorTest {
+
+    @Test
+    public void testRoundTripKeepsTypedKeys() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("dateTime", LocalDateTime.of(2025, 6, 2, 9, 30));
+        keys.put("name", "Spring & Java = fun");
+        keys.put("id", 42L);
+
+        KeysetScrollPosition decoded = EventCursor.decode(EventCursor.encode(ScrollPosition.forward(keys)),
+                EventSort.DATETIME.getSort());
+
+        assertEquals(keys, decoded.getKeys());
+        assertFalse(decoded.isInitial());
+    }
+
+    @Test
+    public void testMissingCursorStartsAtFirstPage() {
+        assertTrue(EventCursor.decode(null, EventSort.NAME.getSort()).isInitial());
+        assertTrue(EventCursor.decode(" ", EventSort.NAME.getSort()).isInitial());
+        assertNull(EventCursor.encode(ScrollPosition.keyset()));
+    }
+
+    @Test
+    public void testUnreadableCursorIsRejected() {
+        assertThrows(InvalidCursorException.class, () -> EventCursor.decode("%%%", EventSort.DATETIME.getSort()));
+        assertThrows(InvalidCursorException.class,
+                () -> EventCursor.decode(token("dateTime=" + token("null") + "&name=" + token("Keynote") + "&id="
+                        + token("1")), EventSort.DATETIME.getSort()));
+    }
+
+    @Test
+    public void testCursorOfOtherSortIsRejected() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("name", "Keynote");
+        keys.put("dateTime", LocalDateTime.of(2025, 6, 2, 9, 30));
+        keys.put("id", 1L);
+        String cursor = EventCursor.encode(ScrollPosition.forward(keys));
+
+        assertThrows(InvalidCursorException.class, () -> EventCursor.decode(cursor, EventSort.ROOM.getSort()));
+    }
+
+    @Test
+    public void testNullSortKeyCannotBeEncoded() {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("dateTime", null);
+        keys.put("id", 1L);
+
+        assertThrows(IllegalArgumentException.class, () -> EventCursor.encode(ScrollPosition.forward(keys)));
+    }
+
+    private static String token(String content) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,58 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Window;
+import org.springframework.security.test.context.support.WithMockUser;
+
+import domain.Event;
+import service.EventService;
+import util.EventCursor;
+import util.EventSort;
+
+/**
+ * Follows the cursors of the event listing to the last page, so a cursor that fails to
+ * move forward shows up as a repeated event instead of an endless loop.
+ */
+public class EventPagingIntegrationTest extends AbstractPerfIntegrationTest {
+
+    private static final int PAGE_SIZE = 1000;
+
+    @Autowired
+    private EventService eventService;
+
+    @Test
+    public void testEverySortVisitsEachEventOnce() {
+        long expected = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM events e JOIN room r ON r.id = e.room_id "
+                + "WHERE e.date_time IS NOT NULL AND e.name IS NOT NULL AND r.name IS NOT NULL", Long.class);
+
+        for (EventSort sort : EventSort.values()) {
+            Set<Long> seen = new HashSet<>();
+            String cursor = null;
+            Window<Event> page;
+            do {
+                page = eventService.findFilteredEvents(null, null, sort, cursor, PAGE_SIZE);
+                for (Event event : page) {
+                    assertTrue(seen.add(event.getId()), sort + " repeated event " + event.getId());
+                }
+                cursor = page.hasNext() ? EventCursor.encode(page.positionAt(page.size() - 1)) : null;
+            } while (cursor != null && seen.size() <= expected);
+
+            assertEquals(expected, seen.size(), sort.name());
+        }
+    }
+
+    @Test
+    @WithMockUser(username = "user")
+    public void testInvalidCursorIsRejected() throws Exception {
+        mockMvc.perform(get("/events").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+}
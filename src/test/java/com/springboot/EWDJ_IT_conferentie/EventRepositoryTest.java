@@ -0,0 +1,164 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import domain.Event;
+import domain.Room;
+import repository.EventRepository;
+import repository.EventSpecifications;
+import service.RoomOccupancyIndex;
+import service.ValidationServiceImpl;
+import util.EventSort;
+
+/**
+ * Runs the derived exists-queries behind event validation and the fetch plans of the
+ * event queries against an embedded database. The occupancy index is left unloaded, so
+ * the room checks query too.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=")
+// The services declared on the application class need the fan-out facility
+@Import(FanOutConfig.class)
+public class EventRepositoryTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 2);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private ValidationServiceImpl validationService;
+    private Room room;
+    private Event keynote;
+
+    @BeforeEach
+    public void setup() {
+        validationService = new ValidationServiceImpl();
+        ReflectionTestUtils.setField(validationService, "eventRepository", eventRepository);
+        ReflectionTestUtils.setField(validationService, "occupancyIndex", new RoomOccupancyIndex());
+
+        room = entityManager.persist(new Room(null, "A101", 50, null));
+        keynote = persistEvent("Keynote", DAY.atTime(9, 0));
+        persistEvent("Late Session", DAY.atTime(23, 59));
+        persistEvent("Midnight Talk", DAY.plusDays(1).atStartOfDay());
+        entityManager.flush();
+    }
+
+    @Test
+    public void testNameUniquenessIgnoresCase() {
+        assertFalse(validationService.isEventNameUniqueOnDate(DAY.atTime(14, 0), "KEYNOTE"));
+        assertTrue(validationService.isEventNameUniqueOnDate(DAY.atTime(14, 0), "Closing"));
+    }
+
+    @Test
+    public void testNameExistsIgnoresCase() {
+        assertTrue(validationService.existsByNameAndDate("keynote", DAY));
+        assertTrue(validationService.existsByNameAndDate("KeyNote", DAY));
+        assertFalse(validationService.existsByNameAndDate("keynote", DAY.plusDays(1)));
+        assertEquals(validationService.existsByNameAndDate("kEYNOTE", DAY),
+                !validationService.isEventNameUniqueOnDate(DAY.atTime(14, 0), "kEYNOTE"));
+    }
+
+    @Test
+    public void testNameUniquenessCoversHalfOpenDay() {
+        assertFalse(validationService.isEventNameUniqueOnDate(DAY.atTime(8, 0), "Late Session"));
+        assertTrue(validationService.isEventNameUniqueOnDate(DAY.atTime(8, 0), "Midnight Talk"));
+        assertFalse(validationService.isEventNameUniqueOnDate(DAY.plusDays(1).atTime(8, 0), "Midnight Talk"));
+    }
+
+    @Test
+    public void testNameCheckExcludingIdSkipsTheEditedEvent() {
+        assertFalse(validationService.existsByNameAndDateExcludingId("keynote", DAY, keynote.getId()));
+        assertTrue(validationService.existsByNameAndDateExcludingId("keynote", DAY, keynote.getId() + 1000));
+    }
+
+    @Test
+    public void testRoomAvailabilityComparesPerMinute() {
+        assertFalse(validationService.isRoomAvailable(DAY.atTime(9, 0, 30), room.getId()));
+        assertTrue(validationService.isRoomAvailable(DAY.atTime(9, 1), room.getId()));
+    }
+
+    @Test
+    public void testRoomAvailabilityExcludingIdSkipsTheEditedEvent() {
+        assertTrue(validationService.isRoomAvailableExcludingEvent(DAY.atTime(9, 0), room.getId(), keynote.getId()));
+        assertFalse(validationService.isRoomAvailableExcludingEvent(DAY.atTime(9, 0), room.getId(),
+                keynote.getId() + 1000));
+    }
+
+    @Test
+    public void testFindAvailableRoomIdsComparesPerMinute() {
+        Room other = entityManager.persist(new Room(null, "B202", 30, null));
+        List<Long> roomIds = List.of(other.getId(), room.getId());
+
+        assertEquals(List.of(other.getId()), validationService.findAvailableRoomIds(DAY.atTime(9, 0, 30), roomIds));
+        assertEquals(roomIds, validationService.findAvailableRoomIds(DAY.atTime(9, 1), roomIds));
+    }
+
+    @Test
+    public void testListingJoinsRoomsButNotSpeakers() {
+        for (EventSort sort : EventSort.values()) {
+            Statistics statistics = clearCachesAndStatistics();
+
+            Window<Event> window = eventRepository.findBy(EventSpecifications.hasSortKeys(sort.getSort()),
+                    query -> query.sortBy(sort.getSort()).limit(10).scroll(ScrollPosition.keyset()));
+
+            assertEquals(3, window.size());
+            assertEquals(1, statistics.getPrepareStatementCount(), sort.name());
+            window.forEach(event -> {
+                assertEquals("A101", event.getRoom().getName());
+                assertFalse(Hibernate.isInitialized(event.getSpeakers()));
+            });
+        }
+    }
+
+    @Test
+    public void testDetailAndOverviewJoinSpeakers() {
+        Statistics statistics = clearCachesAndStatistics();
+
+        Event detail = eventRepository.findDetailById(keynote.getId()).orElseThrow();
+        List<Event> overview = eventRepository.findAllWithSpeakers();
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertTrue(Hibernate.isInitialized(detail.getSpeakers()));
+        assertEquals(3, overview.size());
+        overview.forEach(event -> assertTrue(Hibernate.isInitialized(event.getSpeakers())));
+    }
+
+    private Statistics clearCachesAndStatistics() {
+        entityManager.clear();
+        SessionFactory sessionFactory = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        Statistics statistics = sessionFactory.getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private Event persistEvent(String name, LocalDateTime dateTime) {
+        Event event = new Event();
+        event.setName(name);
+        event.setDateTime(dateTime);
+        event.setRoom(room);
+        event.setPrice(BigDecimal.TEN);
+        return entityManager.persist(event);
+    }
+}
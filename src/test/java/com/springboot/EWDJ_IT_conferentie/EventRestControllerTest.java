@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.LocalDate;
@@ -23,19 +24,24 @@ import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.http.MediaType;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import DTO.EventDto;
 import domain.Event;
+import reactor.core.publisher.Flux;
 import service.EventService;
+import service.ScheduleStreamService;
 import service.UserService;
 
 public class EventRestControllerTest {
 
     private EventService eventService;
     private UserService userService;
+    private ScheduleStreamService scheduleStreamService;
     private EventRestController eventRestController;
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
@@ -44,10 +50,12 @@ public class EventRestControllerTest {
     public void setup() {
         eventService = mock(EventService.class);
         userService = mock(UserService.class);
+        scheduleStreamService = mock(ScheduleStreamService.class);
         eventRestController = new EventRestController();
 
         ReflectionTestUtils.setField(eventRestController, "eventService", eventService);
         ReflectionTestUtils.setField(eventRestController, "userService", userService);
+        ReflectionTestUtils.setField(eventRestController, "scheduleStreamService", scheduleStreamService);
 
         mockMvc = MockMvcBuilders
                 .standaloneSetup(eventRestController)
@@ -145,6 +153,28 @@ public class EventRestControllerTest {
         verify(eventService).getEventsByDate(testDate);
     }
 
+    @Test
+    public void testStreamEventsByDate_Ndjson() throws Exception {
+        LocalDate testDate = LocalDate.of(2024, 12, 25);
+        Event event1 = createTestEvent(1L, "Christmas Conference", testDate);
+        Event event2 = createTestEvent(2L, "Holiday Workshop", testDate);
+
+        when(scheduleStreamService.streamEventsByDate(eq(testDate)))
+                .thenReturn(Flux.just(EventDto.from(event1), EventDto.from(event2)));
+
+        MvcResult result = mockMvc.perform(get("/api/events/25-12-2024").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult();
+
+        String[] lines = result.getResponse().getContentAsString().trim().split("\n");
+        assert lines.length == 2 : "Response should contain one line per event";
+        assert lines[0].contains("Christmas Conference") : "First line should contain 'Christmas Conference'";
+        assert lines[1].contains("Holiday Workshop") : "Second line should contain 'Holiday Workshop'";
+
+        verify(scheduleStreamService).streamEventsByDate(testDate);
+    }
+
     @Test
     public void testGetUserFavorites_Success() throws Exception {
         String username = "testuser";
@@ -0,0 +1,83 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import service.EventService;
+import util.QueryStats;
+
+/**
+ * Runs the bulk event delete against the database, so the cleanup of favorites and
+ * speaker links is checked with the real statements.
+ */
+public class EventServiceIntegrationTest extends AbstractPerfIntegrationTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Test
+    public void testDeleteByIdsRemovesEventsAndFavoritesWithFixedStatementCount() {
+        List<Long> few = createEvents("Bulk delete few", 2);
+        List<Long> many = createEvents("Bulk delete many", 25);
+
+        int fewStatements = deleteCountingStatements(few);
+        int manyStatements = deleteCountingStatements(many);
+
+        assertEquals(fewStatements, manyStatements);
+        assertTrue(manyStatements <= 4, "Executed " + manyStatements + " statements");
+        for (List<Long> ids : List.of(few, many)) {
+            String in = inClause(ids);
+            assertEquals(0, count("SELECT COUNT(*) FROM events WHERE id IN " + in));
+            assertEquals(0, count("SELECT COUNT(*) FROM user_favorites WHERE event_id IN " + in));
+            assertEquals(0, count("SELECT COUNT(*) FROM event_speakers WHERE event_id IN " + in));
+        }
+    }
+
+    private int deleteCountingStatements(List<Long> ids) {
+        String in = inClause(ids);
+        assertEquals(ids.size() * 2L, count("SELECT COUNT(*) FROM user_favorites WHERE event_id IN " + in));
+        assertEquals(ids.size(), count("SELECT COUNT(*) FROM event_speakers WHERE event_id IN " + in));
+
+        QueryStats stats = QueryStats.start();
+        try {
+            eventService.deleteByIds(ids);
+        } finally {
+            QueryStats.stop();
+        }
+        return stats.getStatements();
+    }
+
+    // Every event gets two favorites and a speaker, on a day no seeded event uses
+    private List<Long> createEvents(String name, int count) {
+        Long roomId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM room", Long.class);
+        Long speakerId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM speakers", Long.class);
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM users ORDER BY id LIMIT 2", Long.class);
+
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("INSERT INTO events (name, description, date_time, beamer_code, beamer_check, price,"
+                    + " room_id) VALUES (?, 'Bulk delete', DATEADD(MINUTE, ?, TIMESTAMP '2030-01-01 08:00:00'),"
+                    + " 1000, 13, 10, ?)", name, i, roomId);
+        }
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM events WHERE name = ? ORDER BY id", Long.class,
+                name);
+        for (Long id : ids) {
+            for (Long userId : userIds) {
+                jdbcTemplate.update("INSERT INTO user_favorites (user_id, event_id) VALUES (?, ?)", userId, id);
+            }
+            jdbcTemplate.update("INSERT INTO event_speakers (event_id, speaker_id) VALUES (?, ?)", id, speakerId);
+        }
+        return ids;
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+
+    private static String inClause(List<Long> ids) {
+        return ids.toString().replace('[', '(').replace(']', ')');
+    }
+}
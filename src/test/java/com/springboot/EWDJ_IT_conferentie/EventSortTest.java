@@ -0,0 +1,30 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import util.EventSort;
+
+public class EventSortTest {
+
+    @Test
+    public void testFromParamIgnoresCaseAndDefaultsToDateTime() {
+        assertEquals(EventSort.NAME, EventSort.fromParam("Name"));
+        assertEquals(EventSort.ROOM, EventSort.fromParam("ROOM"));
+        assertEquals(EventSort.DATETIME, EventSort.fromParam("datetime"));
+        assertEquals(EventSort.DATETIME, EventSort.fromParam("price"));
+        assertEquals(EventSort.DATETIME, EventSort.fromParam(null));
+    }
+
+    @Test
+    public void testEverySortEndsOnTheUniqueId() {
+        for (EventSort sort : EventSort.values()) {
+            List<Sort.Order> orders = sort.getSort().toList();
+            assertEquals("id", orders.get(orders.size() - 1).getProperty(), sort.name());
+        }
+    }
+}
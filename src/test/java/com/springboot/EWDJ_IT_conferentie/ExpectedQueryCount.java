@@ -0,0 +1,22 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+/**
+ * Fails the test when its thread executes more JDBC statements than {@link #max()}.
+ * Use it to pin the query count of a page so a per-row query cannot creep back in.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryCountExtension.class)
+public @interface ExpectedQueryCount {
+
+    int max();
+}
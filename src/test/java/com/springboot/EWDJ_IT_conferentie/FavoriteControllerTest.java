@@ -47,7 +47,7 @@ public class FavoriteControllerTest {
 
         String result = favoriteController.addToFavorites(eventId, userDetails, redirectAttributes);
 
-        verify(favoriteService, times(1)).toggleFavorite(eq(eventId), eq("testuser"));
+        verify(favoriteService, times(1)).addFavorite(eq(eventId), eq("testuser"));
         verify(redirectAttributes).addFlashAttribute("message", "Event added to favorites");
         assert result.equals("redirect:/events/" + eventId);
     }
@@ -58,7 +58,7 @@ public class FavoriteControllerTest {
 
         String result = favoriteController.addToFavorites(eventId, null, redirectAttributes);
 
-        verify(favoriteService, times(0)).toggleFavorite(anyLong(), anyString());
+        verify(favoriteService, times(0)).addFavorite(anyLong(), anyString());
         verify(redirectAttributes).addFlashAttribute("error", "You must be logged in to add favorites.");
         assert result.equals("redirect:/login");
     }
@@ -70,11 +70,11 @@ public class FavoriteControllerTest {
         UserDetails userDetails = new StubUserDetails("testuser");
 
         doThrow(new RuntimeException(errorMessage))
-                .when(favoriteService).toggleFavorite(eq(eventId), eq("testuser"));
+                .when(favoriteService).addFavorite(eq(eventId), eq("testuser"));
 
         String result = favoriteController.addToFavorites(eventId, userDetails, redirectAttributes);
 
-        verify(favoriteService, times(1)).toggleFavorite(eq(eventId), eq("testuser"));
+        verify(favoriteService, times(1)).addFavorite(eq(eventId), eq("testuser"));
         verify(redirectAttributes).addFlashAttribute("error", errorMessage);
         assert result.equals("redirect:/events/" + eventId);
     }
@@ -86,7 +86,7 @@ public class FavoriteControllerTest {
 
         String result = favoriteController.removeFromFavorites(eventId, userDetails, redirectAttributes, request);
 
-        verify(favoriteService, times(1)).toggleFavorite(eq(eventId), eq("testuser"));
+        verify(favoriteService, times(1)).removeFavorite(eq(eventId), eq("testuser"));
         verify(redirectAttributes).addFlashAttribute("message", "Event removed from favorites");
         assert result.equals("redirect:/events/" + eventId);
     }
@@ -99,7 +99,7 @@ public class FavoriteControllerTest {
 
         String result = favoriteController.removeFromFavorites(eventId, userDetails, redirectAttributes, request);
 
-        verify(favoriteService, times(1)).toggleFavorite(eq(eventId), eq("testuser"));
+        verify(favoriteService, times(1)).removeFavorite(eq(eventId), eq("testuser"));
         verify(redirectAttributes).addFlashAttribute("message", "Event removed from favorites");
         assert result.equals("redirect:/user/favorites");
     }
@@ -112,7 +112,7 @@ public class FavoriteControllerTest {
 
         String result = favoriteController.removeFromFavorites(eventId, userDetails, redirectAttributes, request);
 
-        verify(favoriteService, times(1)).toggleFavorite(eq(eventId), eq("testuser"));
+        verify(favoriteService, times(1)).removeFavorite(eq(eventId), eq("testuser"));
         verify(redirectAttributes).addFlashAttribute("message", "Event removed from favorites");
         assert result.equals("redirect:/events/" + eventId);
     }
@@ -123,7 +123,7 @@ public class FavoriteControllerTest {
 
         String result = favoriteController.removeFromFavorites(eventId, null, redirectAttributes, request);
 
-        verify(favoriteService, times(0)).toggleFavorite(anyLong(), anyString());
+        verify(favoriteService, times(0)).removeFavorite(anyLong(), anyString());
         verify(redirectAttributes).addFlashAttribute("error", "You must be logged in to remove favorites.");
         assert result.equals("redirect:/login");
     }
@@ -135,11 +135,11 @@ public class FavoriteControllerTest {
         UserDetails userDetails = new StubUserDetails("testuser");
 
         doThrow(new RuntimeException(errorMessage))
-                .when(favoriteService).toggleFavorite(eq(eventId), eq("testuser"));
+                .when(favoriteService).removeFavorite(eq(eventId), eq("testuser"));
 
         String result = favoriteController.removeFromFavorites(eventId, userDetails, redirectAttributes, request);
 
-        verify(favoriteService, times(1)).toggleFavorite(eq(eventId), eq("testuser"));
+        verify(favoriteService, times(1)).removeFavorite(eq(eventId), eq("testuser"));
         verify(redirectAttributes).addFlashAttribute("error", errorMessage);
         assert result.equals("redirect:/events/" + eventId);
     }
@@ -0,0 +1,71 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import repository.UserRepository;
+import service.FavoriteChange;
+import service.FavoriteCounter;
+
+public class FavoriteCountBroadcasterTest {
+
+    private FavoriteCounter favoriteCounter;
+    private FavoriteCountBroadcaster broadcaster;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.countFavoritesPerEvent()).thenReturn(List.of());
+        favoriteCounter = new FavoriteCounter();
+        ReflectionTestUtils.setField(favoriteCounter, "userRepository", userRepository);
+        favoriteCounter.load();
+
+        broadcaster = new FavoriteCountBroadcaster(favoriteCounter, new SimpleMeterRegistry(), Duration.ofMinutes(1),
+                Duration.ofHours(1));
+
+        EventRestController eventRestController = new EventRestController();
+        ReflectionTestUtils.setField(eventRestController, "favoriteCountBroadcaster", broadcaster);
+        mockMvc = MockMvcBuilders.standaloneSetup(eventRestController).build();
+    }
+
+    @Test
+    public void testPushesAggregatedDeltaPerInterval() throws Exception {
+        MockHttpServletResponse all = subscribe("/api/events/favorites/stream");
+        MockHttpServletResponse detail = subscribe("/api/events/favorites/stream?eventId=2");
+
+        for (int i = 0; i < 5; i++) {
+            favoriteCounter.onFavoriteChange(new FavoriteChange(1L, 1));
+        }
+        favoriteCounter.onFavoriteChange(new FavoriteChange(1L, -1));
+        broadcaster.flush();
+
+        String content = all.getContentAsString();
+        assertTrue(content.contains("event:favorites"));
+        assertTrue(content.contains("\"eventId\":1,\"delta\":4,\"count\":4"));
+        assertEquals("", detail.getContentAsString());
+
+        broadcaster.flush();
+        assertEquals(content, all.getContentAsString());
+    }
+
+    private MockHttpServletResponse subscribe(String url) throws Exception {
+        return mockMvc.perform(get(url).accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+    }
+}
@@ -0,0 +1,96 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import repository.UserRepository;
+import service.FavoriteChange;
+import service.FavoriteCounter;
+import service.ScheduleChange;
+
+public class FavoriteCounterTest {
+
+    private FavoriteCounter favoriteCounter;
+
+    @BeforeEach
+    public void setup() {
+        UserRepository userRepository = mock(UserRepository.class);
+        List<Object[]> rows = List.<Object[]>of(new Object[] { 1L, 3L }, new Object[] { 2L, 1L });
+        when(userRepository.countFavoritesPerEvent()).thenReturn(rows);
+
+        favoriteCounter = new FavoriteCounter();
+        ReflectionTestUtils.setField(favoriteCounter, "userRepository", userRepository);
+        // Already part of the rows the load reads
+        favoriteCounter.onFavoriteChange(new FavoriteChange(1L, 1));
+        favoriteCounter.load();
+    }
+
+    @Test
+    public void testChangesBeforeLoadAreNotCountedTwice() {
+        assertEquals(3, favoriteCounter.getCount(1L));
+        assertTrue(favoriteCounter.drainDeltas().isEmpty());
+    }
+
+    @Test
+    public void testDeletedEventDropsItsCounters() {
+        favoriteCounter.onScheduleChange(ScheduleChange.eventDeleted(1L, null));
+
+        assertEquals(0, favoriteCounter.getCount(1L));
+        assertEquals(Map.of(2L, 1), favoriteCounter.snapshot());
+        assertEquals(Map.of(1L, -3L), favoriteCounter.drainDeltas());
+    }
+
+    @Test
+    public void testTracksTotalsAndDrainsNetDeltas() {
+        favoriteCounter.onFavoriteChange(new FavoriteChange(1L, 1));
+        favoriteCounter.onFavoriteChange(new FavoriteChange(2L, -1));
+        favoriteCounter.onFavoriteChange(new FavoriteChange(3L, 1));
+        favoriteCounter.onFavoriteChange(new FavoriteChange(3L, -1));
+
+        assertEquals(4, favoriteCounter.getCount(1L));
+        assertEquals(Map.of(1L, 4), favoriteCounter.snapshot());
+        assertEquals(Map.of(1L, 1L, 2L, -1L), favoriteCounter.drainDeltas());
+        assertTrue(favoriteCounter.drainDeltas().isEmpty());
+    }
+
+    @Test
+    public void testConcurrentTogglesOnOneEventAreNotLost() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        long drained = 0;
+        try {
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        favoriteCounter.onFavoriteChange(new FavoriteChange(1L, 1));
+                        favoriteCounter.onFavoriteChange(new FavoriteChange(1L, -1));
+                        favoriteCounter.onFavoriteChange(new FavoriteChange(1L, 1));
+                    }
+                }));
+            }
+            for (int i = 0; i < 100; i++) {
+                drained += favoriteCounter.drainDeltas().getOrDefault(1L, 0L);
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        drained += favoriteCounter.drainDeltas().getOrDefault(1L, 0L);
+
+        assertEquals(80_003, favoriteCounter.getCount(1L));
+        assertEquals(80_000, drained);
+    }
+}
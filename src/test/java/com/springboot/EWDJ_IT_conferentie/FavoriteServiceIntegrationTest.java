@@ -0,0 +1,105 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+
+import service.FavoriteService;
+
+/**
+ * Runs the favorite writes against the database, so idempotence and the limit are
+ * checked with the real statements and row lock.
+ */
+public class FavoriteServiceIntegrationTest extends AbstractPerfIntegrationTest {
+
+    @Autowired
+    private FavoriteService favoriteService;
+
+    @Value("${app.favorites.limit:5}")
+    private int favoritesLimit;
+
+    private String username;
+    private List<Long> eventIds;
+
+    @BeforeEach
+    public void setup() {
+        username = jdbcTemplate.queryForObject(
+                "SELECT MAX(username) FROM users WHERE id NOT IN (SELECT user_id FROM user_favorites)", String.class);
+        eventIds = jdbcTemplate.queryForList("SELECT id FROM events ORDER BY id LIMIT " + (favoritesLimit + 3),
+                Long.class);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        eventIds.forEach(eventId -> favoriteService.removeFavorite(eventId, username));
+    }
+
+    @Test
+    public void testAddAndRemoveAreIdempotent() {
+        Long eventId = eventIds.get(0);
+        int before = favoriteService.getFavoriteCount(eventId);
+
+        favoriteService.addFavorite(eventId, username);
+        favoriteService.addFavorite(eventId, username);
+        assertEquals(1, countFavorites());
+        assertEquals(before + 1, favoriteService.getFavoriteCount(eventId));
+
+        favoriteService.removeFavorite(eventId, username);
+        favoriteService.removeFavorite(eventId, username);
+        assertEquals(0, countFavorites());
+        assertEquals(before, favoriteService.getFavoriteCount(eventId));
+    }
+
+    @Test
+    public void testAddBeyondLimitIsRejected() {
+        for (int i = 0; i < favoritesLimit; i++) {
+            favoriteService.addFavorite(eventIds.get(i), username);
+        }
+
+        assertThrows(IllegalStateException.class,
+                () -> favoriteService.addFavorite(eventIds.get(favoritesLimit), username));
+        assertEquals(favoritesLimit, countFavorites());
+    }
+
+    @Test
+    public void testConcurrentAddsStopAtLimit() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(eventIds.size());
+        List<Future<?>> futures = new ArrayList<>();
+        int rejected = 0;
+        try {
+            for (Long eventId : eventIds) {
+                futures.add(executor.submit(() -> favoriteService.addFavorite(eventId, username)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    assertInstanceOf(IllegalStateException.class, e.getCause());
+                    rejected++;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(favoritesLimit, countFavorites());
+        assertEquals(eventIds.size() - favoritesLimit, rejected);
+    }
+
+    private long countFavorites() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_favorites f JOIN users u ON u.id = f.user_id WHERE u.username = ?",
+                Long.class, username);
+    }
+}
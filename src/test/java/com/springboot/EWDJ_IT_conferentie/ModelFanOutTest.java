@@ -0,0 +1,117 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import exceptions.EventNotFoundException;
+import service.ModelFanOut;
+
+public class ModelFanOutTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private PlatformTransactionManager transactionManager;
+    private ModelFanOut modelFanOut;
+
+    @BeforeEach
+    public void setup() {
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        modelFanOut = new ModelFanOut(Executors.newFixedThreadPool(4), readOnly, 2, Duration.ofMillis(500));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        modelFanOut.close();
+    }
+
+    @Test
+    public void testLoadsAttributesConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        CompletableFuture<String> rooms = modelFanOut.supply(() -> awaitOther(bothStarted, "rooms"));
+        CompletableFuture<String> speakers = modelFanOut.supply(() -> awaitOther(bothStarted, "speakers"));
+
+        assertEquals("rooms", modelFanOut.join(rooms));
+        assertEquals("speakers", modelFanOut.join(speakers));
+    }
+
+    @Test
+    public void testDeadlineFailsSlowAttribute() {
+        CompletableFuture<String> slow = modelFanOut.supply(() -> awaitRelease("never"));
+
+        assertThrows(IllegalStateException.class, () -> modelFanOut.join(slow));
+    }
+
+    @Test
+    public void testCallerLoadsAttributeWhenAllLoadersAreBusy() {
+        modelFanOut.supply(() -> awaitRelease("first"));
+        modelFanOut.supply(() -> awaitRelease("second"));
+
+        Thread caller = Thread.currentThread();
+        CompletableFuture<Thread> third = modelFanOut.supply(Thread::currentThread);
+
+        assertTrue(third.isDone());
+        assertSame(caller, modelFanOut.join(third));
+    }
+
+    @Test
+    public void testEveryLoaderRunsInItsOwnReadOnlyTransaction() {
+        modelFanOut.supply(() -> awaitRelease("first"));
+        CompletableFuture<String> second = modelFanOut.supply(() -> "second");
+        CompletableFuture<String> inline = modelFanOut.supply(() -> "inline");
+        release.countDown();
+
+        assertEquals("second", modelFanOut.join(second));
+        assertEquals("inline", modelFanOut.join(inline));
+        verify(transactionManager, timeout(1000).times(3))
+                .getTransaction(argThat(definition -> definition.isReadOnly()));
+        verify(transactionManager, timeout(1000).times(3)).commit(any());
+    }
+
+    @Test
+    public void testLoaderExceptionIsRethrown() {
+        CompletableFuture<Object> failing = modelFanOut.supply(() -> {
+            throw new EventNotFoundException("id", 1L);
+        });
+
+        assertThrows(EventNotFoundException.class, () -> modelFanOut.join(failing));
+    }
+
+    private static String awaitOther(CountDownLatch latch, String value) {
+        latch.countDown();
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    private String awaitRelease(String value) {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
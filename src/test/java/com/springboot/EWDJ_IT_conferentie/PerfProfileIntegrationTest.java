@@ -0,0 +1,34 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+
+public class PerfProfileIntegrationTest extends AbstractPerfIntegrationTest {
+
+    @Test
+    public void testScaledDataIsSeeded() {
+        assertTrue(countRows("events") > 1000);
+        assertTrue(countRows("users") > 1000);
+        assertTrue(countRows("user_favorites") > 0);
+    }
+
+    @Test
+    public void testEventsByDateRunsAgainstEmbeddedDatabase() throws Exception {
+        mockMvc.perform(get("/api/events/2025-06-02"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    public void testRoomsPageRendersWithScaledData() throws Exception {
+        mockMvc.perform(get("/rooms"))
+                .andExpect(status().isOk());
+    }
+}
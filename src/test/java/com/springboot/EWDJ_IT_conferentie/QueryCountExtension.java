@@ -0,0 +1,47 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import util.QueryStats;
+
+/**
+ * Checks {@link ExpectedQueryCount} against the JDBC statements counted by
+ * {@link util.QueryCountingDataSource} for the test thread. Requests performed through
+ * MockMvc run on that thread, and their statements also count towards the collection
+ * started here, so statements of other threads or tests never end up in the total.
+ */
+public class QueryCountExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace
+            .create(QueryCountExtension.class);
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (expected(context) != null) {
+            context.getStore(NAMESPACE).put(QueryStats.class, QueryStats.start());
+        }
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        ExpectedQueryCount expected = expected(context);
+        if (expected == null) {
+            return;
+        }
+
+        QueryStats stats = context.getStore(NAMESPACE).remove(QueryStats.class, QueryStats.class);
+        QueryStats.stop();
+        if (stats.getStatements() > expected.max()) {
+            fail(String.format("Expected at most %d statements but %d were executed (%d rows)", expected.max(),
+                    stats.getStatements(), stats.getRows()));
+        }
+    }
+
+    private static ExpectedQueryCount expected(ExtensionContext context) {
+        return context.getRequiredTestMethod().getAnnotation(ExpectedQueryCount.class);
+    }
+}
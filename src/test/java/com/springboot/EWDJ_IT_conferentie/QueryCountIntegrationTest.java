@@ -0,0 +1,53 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.test.context.support.WithMockUser;
+
+/**
+ * Pins the number of statements of the main pages against the scaled perf dataset.
+ * A query per listed row adds hundreds of statements and fails these tests.
+ */
+public class QueryCountIntegrationTest extends AbstractPerfIntegrationTest {
+
+    @Test
+    @WithMockUser(username = "Alice", roles = "USER")
+    @ExpectedQueryCount(max = 10)
+    public void testEventList() throws Exception {
+        mockMvc.perform(get("/events"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    @ExpectedQueryCount(max = 5)
+    public void testAdminEvents() throws Exception {
+        mockMvc.perform(get("/admin/events"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    @ExpectedQueryCount(max = 5)
+    public void testRooms() throws Exception {
+        mockMvc.perform(get("/rooms"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @ExpectedQueryCount(max = 3)
+    public void testEventsByDateApi() throws Exception {
+        mockMvc.perform(get("/api/events/2025-06-02"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @WithMockUser(username = "Alice", roles = "USER")
+    @ExpectedQueryCount(max = 8)
+    public void testUserFavorites() throws Exception {
+        mockMvc.perform(get("/user/favorites"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,123 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import util.QueryCountingDataSource;
+import util.QueryStats;
+
+public class QueryMetricsFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PreparedStatement statement;
+    private QueryCountingDataSource dataSource;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, true, false);
+        statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(statement.executeUpdate()).thenReturn(2);
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenReturn(connection);
+
+        dataSource = new QueryCountingDataSource(target);
+    }
+
+    @Test
+    public void testCountsStatementsAndRowsPerRequest() throws Exception {
+        FilterChain chain = (request, response) -> {
+            try (Connection connection = dataSource.getConnection()) {
+                ResultSet rows = connection.prepareStatement("SELECT * FROM events").executeQuery();
+                while (rows.next()) {
+                    // read all rows
+                }
+                connection.prepareStatement("DELETE FROM user_favorites WHERE event_id = 1").executeUpdate();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+            response.getWriter().write("ok");
+        };
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new QueryMetricsFilter(meterRegistry, 20).doFilter(new MockHttpServletRequest("GET", "/events"), response,
+                chain);
+
+        String header = response.getHeader("Server-Timing");
+        assertNotNull(header);
+        assertTrue(header.contains("2 statements, 5 rows"));
+
+        DistributionSummary statements = meterRegistry.get("http.server.requests.jdbc.statements")
+                .tag("handler", "none").summary();
+        assertEquals(1, statements.count());
+        assertEquals(2, statements.totalAmount());
+        assertNull(QueryStats.current());
+    }
+
+    @Test
+    public void testStatementsOutsideRequestAreNotCounted() throws Exception {
+        try (Connection connection = dataSource.getConnection()) {
+            ResultSet rows = connection.prepareStatement("SELECT * FROM events").executeQuery();
+            while (rows.next()) {
+                // read all rows
+            }
+            connection.prepareStatement("DELETE FROM user_favorites WHERE event_id = 1").executeUpdate();
+        }
+        verify(statement).executeQuery();
+        verify(statement).executeUpdate();
+        assertNull(QueryStats.current());
+        assertTrue(meterRegistry.getMeters().isEmpty());
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        new QueryMetricsFilter(meterRegistry, 20).doFilter(new MockHttpServletRequest("GET", "/events"), response,
+                (request, filterResponse) -> filterResponse.getWriter().write("ok"));
+
+        assertTrue(response.getHeader("Server-Timing").contains("0 statements, 0 rows"));
+        DistributionSummary statements = meterRegistry.get("http.server.requests.jdbc.statements")
+                .tag("handler", "none").summary();
+        assertEquals(1, statements.count());
+        assertEquals(0, statements.totalAmount());
+    }
+
+    @Test
+    public void testRequestStatementsAlsoCountTowardsEnclosingCollection() throws Exception {
+        QueryStats enclosing = QueryStats.start();
+        try {
+            new QueryMetricsFilter(meterRegistry, 20).doFilter(new MockHttpServletRequest("GET", "/events"),
+                    new MockHttpServletResponse(), (request, response) -> {
+                        try (Connection connection = dataSource.getConnection()) {
+                            connection.prepareStatement("DELETE FROM user_favorites WHERE event_id = 1")
+                                    .executeUpdate();
+                        } catch (Exception e) {
+                            throw new IllegalStateException(e);
+                        }
+                    });
+
+            assertSame(enclosing, QueryStats.current());
+            assertEquals(1, enclosing.getStatements());
+            assertEquals(2, enclosing.getRows());
+        } finally {
+            QueryStats.stop();
+        }
+        assertNull(QueryStats.current());
+    }
+}
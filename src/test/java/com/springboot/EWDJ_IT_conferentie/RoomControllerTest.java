@@ -25,7 +25,6 @@ import org.springframework.validation.BindingResult;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import DTO.RoomWithEventCount;
-import domain.Event;
 import domain.Room;
 import service.RoomService;
 
@@ -141,18 +140,15 @@ public class RoomControllerTest {
 
     @Test
     public void testConfirmDeleteRoom_ExistingRoom() {
-        // Updated test to use RoomWithEventCount
-        List<RoomWithEventCount> rooms = Arrays.asList(
-                createRoomWithEventCount(1L, "Room to Delete", 50, 0),
-                createRoomWithEventCount(2L, "Other Room", 100, 2)
-        );
-        
-        when(roomService.filterRoomsWithEventCount(null, null, "name")).thenReturn(rooms);
+        RoomWithEventCount room = createRoomWithEventCount(1L, "Room to Delete", 50, 0);
+
+        when(roomService.getRoomWithEventCountById(1L)).thenReturn(Optional.of(room));
 
         String viewName = roomController.confirmDeleteRoom(1L, model, 100, "test", "name");
 
-        verify(roomService).filterRoomsWithEventCount(null, null, "name");
-        verify(model).addAttribute("room", rooms.get(0));
+        verify(roomService).getRoomWithEventCountById(1L);
+        verify(roomService, times(0)).filterRoomsWithEventCount(any(), any(), any());
+        verify(model).addAttribute("room", room);
         verify(model).addAttribute("canDelete", true);
         verify(model).addAttribute("capacityFilter", 100);
         verify(model).addAttribute("searchFilter", "test");
@@ -162,18 +158,14 @@ public class RoomControllerTest {
 
     @Test
     public void testConfirmDeleteRoom_RoomWithEvents() {
-        // Room with events
-        List<RoomWithEventCount> rooms = Arrays.asList(
-                createRoomWithEventCount(1L, "Room with Events", 50, 3),
-                createRoomWithEventCount(2L, "Other Room", 100, 2)
-        );
-        
-        when(roomService.filterRoomsWithEventCount(null, null, "name")).thenReturn(rooms);
+        RoomWithEventCount room = createRoomWithEventCount(1L, "Room with Events", 50, 3);
+
+        when(roomService.getRoomWithEventCountById(1L)).thenReturn(Optional.of(room));
 
         String viewName = roomController.confirmDeleteRoom(1L, model, 100, "test", "name");
 
-        verify(roomService).filterRoomsWithEventCount(null, null, "name");
-        verify(model).addAttribute("room", rooms.get(0));
+        verify(roomService).getRoomWithEventCountById(1L);
+        verify(model).addAttribute("room", room);
         verify(model).addAttribute("canDelete", false);
         verify(model).addAttribute("capacityFilter", 100);
         verify(model).addAttribute("searchFilter", "test");
@@ -183,26 +175,20 @@ public class RoomControllerTest {
 
     @Test
     public void testConfirmDeleteRoom_NonExistentRoom() {
-        // Empty list simulating room not found
-        List<RoomWithEventCount> rooms = Arrays.asList(
-                createRoomWithEventCount(2L, "Other Room", 100, 2)
-        );
-        
-        when(roomService.filterRoomsWithEventCount(null, null, "name")).thenReturn(rooms);
+        when(roomService.getRoomWithEventCountById(1L)).thenReturn(Optional.empty());
 
         String viewName = roomController.confirmDeleteRoom(1L, model, 100, "test", "name");
 
-        verify(roomService).filterRoomsWithEventCount(null, null, "name");
+        verify(roomService).getRoomWithEventCountById(1L);
         assert viewName.equals("redirect:/rooms?capacity=100&search=test&sort=name");
     }
 
     @Test
     public void testDeleteRoom_Success() {
-        Room room = createRoom(1L, "Room to Delete", 50);
-        room.setEvents(Collections.emptySet());
+        Room room = new Room(1L, "Room to Delete", 50, null);
         Locale locale = Locale.ENGLISH;
 
-        when(roomService.getRoomById(1L)).thenReturn(Optional.of(room));
+        when(roomService.deleteById(1L)).thenReturn(room);
 
         try (MockedStatic<LocaleContextHolder> localeHolder = mockStatic(LocaleContextHolder.class)) {
             localeHolder.when(LocaleContextHolder::getLocale).thenReturn(locale);
@@ -210,8 +196,8 @@ public class RoomControllerTest {
 
             String viewName = roomController.deleteRoom(1L, 100, "test", "name", redirectAttributes);
 
-            verify(roomService).getRoomById(1L);
-            verify(roomService).deleteById(1L);
+            verify(messageSource).getMessage(eq("room.deleted"), eq(new Object[] { "Room to Delete" }), eq(locale));
+            verify(roomService, times(0)).getRoomWithEventCountById(anyLong());
             verify(redirectAttributes).addFlashAttribute("message", "Room deleted");
             assert viewName.equals("redirect:/rooms?capacity=100&search=test&sort=name");
         }
@@ -219,21 +205,19 @@ public class RoomControllerTest {
 
     @Test
     public void testDeleteRoom_WithEvents() {
-        Room room = createRoom(1L, "Room with Events", 50);
-        List<Event> eventList = Arrays.asList(new Event(), new Event());
-        room.setEvents(new HashSet<>(eventList));
         Locale locale = Locale.ENGLISH;
 
-        when(roomService.getRoomById(1L)).thenReturn(Optional.of(room));
+        doThrow(new IllegalStateException("Cannot delete a room with scheduled events")).when(roomService)
+                .deleteById(1L);
 
         try (MockedStatic<LocaleContextHolder> localeHolder = mockStatic(LocaleContextHolder.class)) {
             localeHolder.when(LocaleContextHolder::getLocale).thenReturn(locale);
-            when(messageSource.getMessage(eq("room.delete.events"), any(), eq(locale))).thenReturn("Cannot delete room with events");
+            when(messageSource.getMessage(eq("room.delete.disabled"), any(), eq(locale))).thenReturn("Cannot delete room with events");
 
             String viewName = roomController.deleteRoom(1L, 100, "test", "name", redirectAttributes);
 
-            verify(roomService).getRoomById(1L);
-            verify(roomService, times(0)).deleteById(anyLong());
+            verify(roomService).deleteById(1L);
+            verify(roomService, times(0)).getRoomWithEventCountById(anyLong());
             verify(redirectAttributes).addFlashAttribute("error", "Cannot delete room with events");
             assert viewName.equals("redirect:/rooms?capacity=100&search=test&sort=name");
         }
@@ -241,26 +225,21 @@ public class RoomControllerTest {
 
     @Test
     public void testDeleteRoom_NonExistentRoom() {
-        when(roomService.getRoomById(999L)).thenReturn(Optional.empty());
+        doThrow(new IllegalArgumentException("Invalid room id: 999")).when(roomService).deleteById(999L);
 
         String viewName = roomController.deleteRoom(999L, 100, "test", "name", redirectAttributes);
 
-        verify(roomService).getRoomById(999L);
+        verify(roomService).deleteById(999L);
         verify(redirectAttributes).addFlashAttribute(eq("error"), anyString());
         assert viewName.equals("redirect:/rooms?capacity=100&search=test&sort=name");
     }
 
     @Test
     public void testDeleteRoom_ServiceException() {
-        Room room = createRoom(1L, "Room to Delete", 50);
-        room.setEvents(Collections.emptySet());
-
-        when(roomService.getRoomById(1L)).thenReturn(Optional.of(room));
         doThrow(new RuntimeException("Database error")).when(roomService).deleteById(1L);
 
         String viewName = roomController.deleteRoom(1L, 100, "test", "name", redirectAttributes);
 
-        verify(roomService).getRoomById(1L);
         verify(roomService).deleteById(1L);
         verify(redirectAttributes).addFlashAttribute(eq("error"), anyString());
         assert viewName.equals("redirect:/rooms?capacity=100&search=test&sort=name");
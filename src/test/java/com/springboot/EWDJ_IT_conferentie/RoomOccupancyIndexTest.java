@@ -0,0 +1,112 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import repository.EventRepository;
+import service.RoomOccupancyIndex;
+
+public class RoomOccupancyIndexTest {
+
+    private static final LocalDateTime NINE_AM = LocalDateTime.of(2025, 6, 1, 9, 0);
+    private static final LocalDateTime ELEVEN_AM = LocalDateTime.of(2025, 6, 1, 11, 0);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private RoomOccupancyIndex occupancyIndex;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        List<Object[]> rows = Arrays.asList(
+                new Object[] { 10L, 1L, NINE_AM },
+                new Object[] { 11L, 2L, NINE_AM });
+        when(eventRepository.findAllRoomSlots()).thenReturn(rows);
+        occupancyIndex.load();
+    }
+
+    @Test
+    public void testLoad() {
+        assertTrue(occupancyIndex.isLoaded());
+        assertFalse(occupancyIndex.isAvailable(1L, NINE_AM));
+        assertTrue(occupancyIndex.isAvailable(1L, ELEVEN_AM));
+        assertTrue(occupancyIndex.isAvailable(3L, NINE_AM));
+        assertTrue(occupancyIndex.isAvailable(1L, NINE_AM.plusDays(1)));
+    }
+
+    @Test
+    public void testIsAvailableExcluding() {
+        assertTrue(occupancyIndex.isAvailableExcluding(1L, NINE_AM, 10L));
+        assertFalse(occupancyIndex.isAvailableExcluding(1L, NINE_AM, 99L));
+    }
+
+    @Test
+    public void testPut_MovesEvent() {
+        occupancyIndex.put(10L, 1L, ELEVEN_AM);
+
+        assertTrue(occupancyIndex.isAvailable(1L, NINE_AM));
+        assertFalse(occupancyIndex.isAvailable(1L, ELEVEN_AM));
+    }
+
+    @Test
+    public void testRemove() {
+        occupancyIndex.remove(11L);
+
+        assertTrue(occupancyIndex.isAvailable(2L, NINE_AM));
+        assertFalse(occupancyIndex.isAvailable(1L, NINE_AM));
+    }
+
+    @Test
+    public void testComparesPerMinute() {
+        assertFalse(occupancyIndex.isAvailable(1L, NINE_AM.plusSeconds(30)));
+        assertTrue(occupancyIndex.isAvailable(1L, NINE_AM.plusMinutes(1)));
+    }
+
+    @Test
+    public void testFindAvailableRooms() {
+        List<Long> available = occupancyIndex.findAvailableRooms(List.of(3L, 1L, 2L), NINE_AM.plusSeconds(30));
+
+        assertEquals(List.of(3L), available);
+        assertEquals(List.of(3L, 1L, 2L), occupancyIndex.findAvailableRooms(List.of(3L, 1L, 2L), ELEVEN_AM));
+    }
+
+    @Test
+    public void testDoubleBookedMinuteStaysOccupiedUntilBothEventsLeave() {
+        occupancyIndex.put(12L, 1L, NINE_AM);
+        assertFalse(occupancyIndex.isAvailableExcluding(1L, NINE_AM, 10L));
+
+        occupancyIndex.remove(10L);
+        assertFalse(occupancyIndex.isAvailable(1L, NINE_AM));
+        assertTrue(occupancyIndex.isAvailableExcluding(1L, NINE_AM, 12L));
+
+        occupancyIndex.remove(12L);
+        assertTrue(occupancyIndex.isAvailable(1L, NINE_AM));
+    }
+
+    @Test
+    public void testKeepsEveryEventOfABusyDay() {
+        for (long id = 20; id < 30; id++) {
+            occupancyIndex.put(id, 1L, ELEVEN_AM.plusMinutes(id));
+        }
+        for (long id = 20; id < 30; id += 2) {
+            occupancyIndex.remove(id);
+        }
+
+        for (long id = 20; id < 30; id++) {
+            assertEquals(id % 2 == 0, occupancyIndex.isAvailable(1L, ELEVEN_AM.plusMinutes(id)));
+        }
+        assertFalse(occupancyIndex.isAvailable(1L, NINE_AM));
+    }
+}
@@ -21,6 +21,7 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import DTO.RoomDto;
 import domain.Room;
 import service.RoomService;
 
@@ -42,17 +43,7 @@ public class RoomRestControllerTest {
 
     @Test
     public void testGetAllRooms() throws Exception {
-        Room room1 = new Room();
-        room1.setId(1L);
-        room1.setName("A101");
-        room1.setCapacity(30);
-
-        Room room2 = new Room();
-        room2.setId(2L);
-        room2.setName("B202");
-        room2.setCapacity(25);
-
-        List<Room> rooms = Arrays.asList(room1, room2);
+        List<RoomDto> rooms = Arrays.asList(new RoomDto(1L, "A101", 30), new RoomDto(2L, "B202", 25));
         
         when(roomService.getAllRooms()).thenReturn(rooms);
 
@@ -0,0 +1,42 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import domain.Room;
+import service.RoomService;
+
+/**
+ * Runs the room delete guard against the database, so the check and the delete are
+ * exercised in the transaction they share.
+ */
+public class RoomServiceIntegrationTest extends AbstractPerfIntegrationTest {
+
+    @Autowired
+    private RoomService roomService;
+
+    @Test
+    public void testDeleteRefusesRoomWithEvents() {
+        Long roomId = jdbcTemplate.queryForObject("SELECT MIN(room_id) FROM events", Long.class);
+
+        assertThrows(IllegalStateException.class, () -> roomService.deleteById(roomId));
+        assertEquals(1, countRoom(roomId));
+    }
+
+    @Test
+    public void testDeleteRemovesEmptyRoom() {
+        Room room = roomService.save(new Room(null, "Z999", 20, null));
+
+        Room deleted = roomService.deleteById(room.getId());
+
+        assertEquals("Z999", deleted.getName());
+        assertEquals(0, countRoom(room.getId()));
+        assertThrows(IllegalArgumentException.class, () -> roomService.deleteById(room.getId()));
+    }
+
+    private long countRoom(Long roomId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM room WHERE id = ?", Long.class, roomId);
+    }
+}
@@ -0,0 +1,124 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import DTO.EventDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import service.RoomOccupancyIndex.RoomDay;
+import service.ScheduleChange;
+
+public class ScheduleChangeBroadcasterTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 6, 2);
+
+    private ScheduleChangeBroadcaster broadcaster;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    public void setup() {
+        broadcaster = new ScheduleChangeBroadcaster(new SimpleMeterRegistry(), 4, Duration.ofMinutes(1),
+                Duration.ofHours(1));
+
+        EventRestController eventRestController = new EventRestController();
+        ReflectionTestUtils.setField(eventRestController, "scheduleChangeBroadcaster", broadcaster);
+        mockMvc = MockMvcBuilders.standaloneSetup(eventRestController).build();
+    }
+
+    @Test
+    public void testCoalescesBurstAndFiltersByDate() throws Exception {
+        MockHttpServletResponse response = subscribe("/api/events/stream?date=2025-06-02", null);
+        broadcaster.flush();
+
+        broadcaster.onScheduleChange(ScheduleChange.eventSaved(event(1L, "Keynote", DAY, 1L), null));
+        broadcaster.onScheduleChange(ScheduleChange.eventSaved(event(1L, "Opening keynote", DAY, 1L), null));
+        broadcaster.onScheduleChange(ScheduleChange.eventSaved(event(2L, "Workshop", DAY.plusDays(1), 1L), null));
+        broadcaster.flush();
+
+        String content = response.getContentAsString();
+        assertEquals(1, countOccurrences(content, "data:"));
+        assertTrue(content.contains("Opening keynote"));
+        assertFalse(content.contains("Workshop"));
+    }
+
+    @Test
+    public void testEventMovedAwayReachesSubscribersOfPreviousRoom() throws Exception {
+        MockHttpServletResponse response = subscribe("/api/events/stream?roomId=1", null);
+        broadcaster.flush();
+
+        broadcaster.onScheduleChange(ScheduleChange.eventSaved(event(1L, "Keynote", DAY, 2L), new RoomDay(1L, DAY)));
+        broadcaster.flush();
+
+        assertTrue(response.getContentAsString().contains("\"previousRoomId\":1"));
+    }
+
+    @Test
+    public void testResumesFromLastEventId() throws Exception {
+        for (long id = 1; id <= 3; id++) {
+            broadcaster.onScheduleChange(ScheduleChange.eventDeleted(id, new RoomDay(1L, DAY)));
+            broadcaster.flush();
+        }
+
+        MockHttpServletResponse response = subscribe("/api/events/stream", "1");
+        broadcaster.flush();
+
+        String content = response.getContentAsString();
+        assertFalse(content.contains("id:1\n"));
+        assertTrue(content.contains("id:2\n"));
+        assertTrue(content.contains("id:3\n"));
+    }
+
+    @Test
+    public void testSendsResetWhenLastEventIdIsNoLongerBuffered() throws Exception {
+        for (long id = 1; id <= 6; id++) {
+            broadcaster.onScheduleChange(ScheduleChange.roomDeleted(id));
+            broadcaster.flush();
+        }
+
+        MockHttpServletResponse response = subscribe("/api/events/stream", "1");
+        broadcaster.flush();
+
+        String content = response.getContentAsString();
+        assertTrue(content.contains("event:reset"));
+        assertEquals(0, countOccurrences(content, "ROOM_DELETED"));
+    }
+
+    private MockHttpServletResponse subscribe(String url, String lastEventId) throws Exception {
+        MockHttpServletRequestBuilder builder = get(url).accept(MediaType.TEXT_EVENT_STREAM);
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+    }
+
+    private EventDto event(Long id, String name, LocalDate day, Long roomId) {
+        return new EventDto(id, name, null, LocalDateTime.of(day, java.time.LocalTime.of(9, 0)), BigDecimal.TEN,
+                roomId, "Room " + roomId, List.of());
+    }
+
+    private int countOccurrences(String content, String token) {
+        int count = 0;
+        for (int index = content.indexOf(token); index >= 0; index = content.indexOf(token, index + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
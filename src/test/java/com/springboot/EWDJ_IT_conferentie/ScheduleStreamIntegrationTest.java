@@ -0,0 +1,41 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import domain.Room;
+import service.RoomService;
+
+/**
+ * Runs the schedule stream in the started application, so the scheduled flush and the
+ * after-commit listener are wired up as in production.
+ */
+public class ScheduleStreamIntegrationTest extends AbstractPerfIntegrationTest {
+
+    @Autowired
+    private RoomService roomService;
+
+    @Test
+    public void testSavedRoomReachesSubscriberThroughScheduledFlush() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/api/events/stream")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+
+        Long roomId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM room", Long.class);
+        Room room = roomService.getRoomById(roomId).orElseThrow();
+        roomService.save(room);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!response.getContentAsString().contains("ROOM_SAVED") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(response.getContentAsString().contains("\"roomId\":" + roomId));
+    }
+}
@@ -0,0 +1,51 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import domain.Room;
+import domain.Speaker;
+import jakarta.persistence.EntityManagerFactory;
+import service.FavoriteService;
+import service.RoomService;
+import service.SpeakerService;
+
+/**
+ * Checks that the native favorite writes declare their query space, so Hibernate keeps
+ * the unrelated room and speaker regions of the second-level cache.
+ */
+public class SecondLevelCacheIntegrationTest extends AbstractPerfIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private SpeakerService speakerService;
+
+    @Autowired
+    private FavoriteService favoriteService;
+
+    @Test
+    public void testFavoriteWritesKeepRoomAndSpeakerRegions() {
+        Long roomId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM room", Long.class);
+        Long speakerId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM speakers", Long.class);
+        roomService.getRoomById(roomId);
+        speakerService.findById(speakerId);
+        assertTrue(entityManagerFactory.getCache().contains(Room.class, roomId));
+        assertTrue(entityManagerFactory.getCache().contains(Speaker.class, speakerId));
+
+        String username = jdbcTemplate.queryForObject(
+                "SELECT MIN(username) FROM users WHERE id NOT IN (SELECT user_id FROM user_favorites)", String.class);
+        Long eventId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM events", Long.class);
+        favoriteService.addFavorite(eventId, username);
+        favoriteService.removeFavorite(eventId, username);
+
+        assertTrue(entityManagerFactory.getCache().contains(Room.class, roomId));
+        assertTrue(entityManagerFactory.getCache().contains(Speaker.class, speakerId));
+    }
+}
@@ -0,0 +1,56 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import service.RoomService;
+
+public class ServiceMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RoomService roomService;
+    private RoomService timedRoomService;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        roomService = mock(RoomService.class);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(roomService);
+        factory.addInterface(RoomService.class);
+        factory.addAspect(new ServiceMetricsAspect(meterRegistry));
+        timedRoomService = factory.getProxy();
+    }
+
+    @Test
+    public void testTimesSuccessfulCall() {
+        timedRoomService.existsByName("A101");
+
+        Timer timer = meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+                .tag("service", "RoomService")
+                .tag("method", "existsByName")
+                .tag("outcome", "SUCCESS")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    public void testTimesFailedCallWithException() {
+        doThrow(new IllegalStateException("Room has events")).when(roomService).deleteById(1L);
+
+        assertThrows(IllegalStateException.class, () -> timedRoomService.deleteById(1L));
+
+        Timer timer = meterRegistry.get(ServiceMetricsAspect.METRIC_NAME)
+                .tag("method", "deleteById")
+                .tag("outcome", "ERROR")
+                .tag("exception", "IllegalStateException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+}
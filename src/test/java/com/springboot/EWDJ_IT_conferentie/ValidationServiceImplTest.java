@@ -3,21 +3,22 @@ package com.springboot.EWDJ_IT_conferentie;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
-import domain.Event;
-import domain.Room;
 import repository.EventRepository;
+import service.RoomOccupancyIndex;
 import service.ValidationServiceImpl;
 
 import java.util.stream.Stream;
@@ -27,6 +28,9 @@ public class ValidationServiceImplTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private RoomOccupancyIndex occupancyIndex;
+
     @InjectMocks
     private ValidationServiceImpl validationService;
 
@@ -38,17 +42,47 @@ public class ValidationServiceImplTest {
     @ParameterizedTest
     @MethodSource("roomAvailabilityTestCases")
     public void testIsRoomAvailable(boolean repositoryReturnValue, boolean expectedResult) {
-        LocalDateTime dateTime = LocalDateTime.now();
+        LocalDateTime dateTime = LocalDateTime.of(2023, 6, 1, 10, 0, 42);
+        LocalDateTime minute = LocalDateTime.of(2023, 6, 1, 10, 0);
         Long roomId = 1L;
         
-        when(eventRepository.existsByRoomIdAndDateTimeEquals(roomId, dateTime)).thenReturn(repositoryReturnValue);
+        when(eventRepository.existsByRoomIdAndDateTimeGreaterThanEqualAndDateTimeLessThan(roomId, minute,
+                minute.plusMinutes(1))).thenReturn(repositoryReturnValue);
 
         boolean result = validationService.isRoomAvailable(dateTime, roomId);
         
         assertEquals(expectedResult, result);
-        verify(eventRepository).existsByRoomIdAndDateTimeEquals(roomId, dateTime);
+        verify(eventRepository).existsByRoomIdAndDateTimeGreaterThanEqualAndDateTimeLessThan(roomId, minute,
+                minute.plusMinutes(1));
     }
     
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testIsRoomAvailable_UsesLoadedIndex(boolean indexReturnValue) {
+        LocalDateTime dateTime = LocalDateTime.of(2023, 6, 1, 10, 0);
+        Long roomId = 1L;
+
+        when(occupancyIndex.isLoaded()).thenReturn(true);
+        when(occupancyIndex.isAvailable(roomId, dateTime)).thenReturn(indexReturnValue);
+
+        boolean result = validationService.isRoomAvailable(dateTime, roomId);
+
+        assertEquals(indexReturnValue, result);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    public void testFindAvailableRoomIds_UsesLoadedIndex() {
+        LocalDateTime dateTime = LocalDateTime.of(2023, 6, 1, 10, 0);
+        List<Long> roomIds = List.of(1L, 2L, 3L);
+
+        when(occupancyIndex.isLoaded()).thenReturn(true);
+        when(occupancyIndex.findAvailableRooms(roomIds, dateTime)).thenReturn(List.of(2L));
+
+        assertEquals(List.of(2L), validationService.findAvailableRoomIds(dateTime, roomIds));
+        verifyNoInteractions(eventRepository);
+    }
+
     private static Stream<Arguments> roomAvailabilityTestCases() {
         return Stream.of(
             Arguments.of(false, true),
@@ -56,85 +90,84 @@ public class ValidationServiceImplTest {
         );
     }
 
+    private static Stream<Arguments> nameUniquenessTestCases() {
+        return Stream.of(
+            Arguments.of(false, true),
+            Arguments.of(true, false)
+        );
+    }
+
     @ParameterizedTest
-    @MethodSource("eventNameUniqueTestCases")
-    public void testIsEventNameUniqueOnDate(List<Event> existingEvents, String testEventName, LocalDateTime testDateTime, boolean expectedResult) {
-        when(eventRepository.findAll()).thenReturn(existingEvents);
+    @MethodSource("nameUniquenessTestCases")
+    public void testIsEventNameUniqueOnDate(boolean sameNameExistsOnDay, boolean expectedResult) {
+        LocalDateTime dateTime = LocalDateTime.of(2023, 6, 1, 10, 0);
+        LocalDateTime dayStart = LocalDateTime.of(2023, 6, 1, 0, 0);
+        LocalDateTime nextDayStart = LocalDateTime.of(2023, 6, 2, 0, 0);
+
+        when(eventRepository.existsByNameIgnoreCaseAndDateTimeGreaterThanEqualAndDateTimeLessThan(
+                "Test Event", dayStart, nextDayStart)).thenReturn(sameNameExistsOnDay);
+
+        boolean result = validationService.isEventNameUniqueOnDate(dateTime, "Test Event");
 
-        boolean result = validationService.isEventNameUniqueOnDate(testDateTime, testEventName);
-        
         assertEquals(expectedResult, result);
-        verify(eventRepository).findAll();
+        verify(eventRepository).existsByNameIgnoreCaseAndDateTimeGreaterThanEqualAndDateTimeLessThan(
+                "Test Event", dayStart, nextDayStart);
+        verify(eventRepository, never()).findAll();
     }
-    
-    private static Stream<Arguments> eventNameUniqueTestCases() {
-        List<Event> eventsWithDifferentNameSameDate = new ArrayList<>();
-        Event event1 = new Event();
-        event1.setName("Other Event");
-        event1.setDateTime(LocalDateTime.of(2023, 6, 1, 14, 0));
-        eventsWithDifferentNameSameDate.add(event1);
-        
-        List<Event> eventsWithSameNameDifferentDate = new ArrayList<>();
-        Event event2 = new Event();
-        event2.setName("Test Event");
-        event2.setDateTime(LocalDateTime.of(2023, 6, 2, 10, 0));
-        eventsWithSameNameDifferentDate.add(event2);
-        
-        List<Event> eventsWithSameNameSameDate = new ArrayList<>();
-        Event event3 = new Event();
-        event3.setName("Test Event");
-        event3.setDateTime(LocalDateTime.of(2023, 6, 1, 14, 0));
-        eventsWithSameNameSameDate.add(event3);
-        
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testExistsByNameAndDate(boolean repositoryReturnValue) {
+        LocalDate date = LocalDate.of(2023, 6, 1);
+
+        when(eventRepository.existsByNameIgnoreCaseAndDateTimeGreaterThanEqualAndDateTimeLessThan(
+                "test EVENT", date.atStartOfDay(), date.plusDays(1).atStartOfDay()))
+                .thenReturn(repositoryReturnValue);
+
+        boolean result = validationService.existsByNameAndDate("test EVENT", date);
+
+        assertEquals(repositoryReturnValue, result);
+        verify(eventRepository, never()).findAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testExistsByNameAndDateExcludingId(boolean repositoryReturnValue) {
+        LocalDate date = LocalDate.of(2023, 6, 1);
+        Long eventId = 5L;
+
+        when(eventRepository.existsByNameIgnoreCaseAndDateTimeGreaterThanEqualAndDateTimeLessThanAndIdNot(
+                "Test Event", date.atStartOfDay(), date.plusDays(1).atStartOfDay(), eventId))
+                .thenReturn(repositoryReturnValue);
+
+        boolean result = validationService.existsByNameAndDateExcludingId("Test Event", date, eventId);
+
+        assertEquals(repositoryReturnValue, result);
+        verify(eventRepository, never()).findAll();
+    }
+
+    private static Stream<Arguments> roomAvailabilityExcludingEventTestCases() {
         return Stream.of(
-            Arguments.of(eventsWithDifferentNameSameDate, "Test Event", LocalDateTime.of(2023, 6, 1, 10, 0), true),
-            Arguments.of(eventsWithSameNameDifferentDate, "Test Event", LocalDateTime.of(2023, 6, 1, 10, 0), true),
-            Arguments.of(eventsWithSameNameSameDate, "Test Event", LocalDateTime.of(2023, 6, 1, 10, 0), false)
+            Arguments.of(false, true),
+            Arguments.of(true, false)
         );
     }
 
     @ParameterizedTest
     @MethodSource("roomAvailabilityExcludingEventTestCases")
-    public void testIsRoomAvailableExcludingEvent(List<Event> existingEvents, boolean expectedResult) {
+    public void testIsRoomAvailableExcludingEvent(boolean otherEventInRoom, boolean expectedResult) {
         LocalDateTime dateTime = LocalDateTime.of(2023, 6, 1, 10, 0);
         Long roomId = 1L;
         Long eventId = 5L;
-        
-        when(eventRepository.findAll()).thenReturn(existingEvents);
+
+        when(eventRepository.existsByRoomIdAndDateTimeGreaterThanEqualAndDateTimeLessThanAndIdNot(roomId, dateTime,
+                dateTime.plusMinutes(1), eventId)).thenReturn(otherEventInRoom);
 
         boolean result = validationService.isRoomAvailableExcludingEvent(dateTime, roomId, eventId);
-        
+
         assertEquals(expectedResult, result);
-        verify(eventRepository).findAll();
-    }
-    
-    private static Stream<Arguments> roomAvailabilityExcludingEventTestCases() {
-        Room room = new Room();
-        room.setId(1L);
-        
-        List<Event> eventsWithConflict = new ArrayList<>();
-        Event conflictEvent = new Event();
-        conflictEvent.setId(10L);
-        conflictEvent.setDateTime(LocalDateTime.of(2023, 6, 1, 10, 0));
-        conflictEvent.setRoom(room);
-        eventsWithConflict.add(conflictEvent);
-        Event excludedEvent = new Event();
-        excludedEvent.setId(5L);
-        excludedEvent.setDateTime(LocalDateTime.of(2023, 6, 1, 10, 0));
-        excludedEvent.setRoom(room);
-        eventsWithConflict.add(excludedEvent);
-        
-        List<Event> eventsWithoutConflict = new ArrayList<>();
-        Event nonConflictEvent = new Event();
-        nonConflictEvent.setId(10L);
-        nonConflictEvent.setDateTime(LocalDateTime.of(2023, 6, 1, 11, 0));
-        nonConflictEvent.setRoom(room);
-        eventsWithoutConflict.add(nonConflictEvent);
-        eventsWithoutConflict.add(excludedEvent);
-        
-        return Stream.of(
-            Arguments.of(eventsWithConflict, false),
-            Arguments.of(eventsWithoutConflict, true)
-        );
+        verify(eventRepository).existsByRoomIdAndDateTimeGreaterThanEqualAndDateTimeLessThanAndIdNot(roomId, dateTime,
+                dateTime.plusMinutes(1), eventId);
+        verify(eventRepository, never()).findAll();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,108 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Starts the application on the perf profile twice, once on the platform-thread pool and
+ * once on virtual threads, and drives both with the same number of concurrent users.
+ * Run with {@code mvn -Pload-test test}.
+ */
+@Slf4j
+@Tag("load")
+public class VirtualThreadLoadTest {
+
+    private static final int CONCURRENT_USERS = 2000;
+    private static final int REQUESTS = 20_000;
+    private static final String PATH = "/api/events/2025-06-03";
+
+    @Test
+    public void testCompareVirtualAndPlatformThreads() throws Exception {
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        log.info("{}", platform);
+        log.info("{}", virtual);
+
+        assertEquals(0, platform.failures(), platform::toString);
+        assertEquals(0, virtual.failures(), virtual::toString);
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(ITConferenceApplication.class)
+                .profiles("perf")
+                .properties("server.port=0", "spring.jmx.enabled=false",
+                        "spring.threads.virtual.enabled=" + virtualThreads)
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            URI uri = URI.create("http://localhost:" + port + PATH);
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+
+            load(client, uri, CONCURRENT_USERS / 10);
+            return load(client, uri, REQUESTS).named(virtualThreads ? "virtual" : "platform");
+        }
+    }
+
+    private Result load(HttpClient client, URI uri, int requests) throws InterruptedException {
+        Semaphore users = new Semaphore(CONCURRENT_USERS);
+        CountDownLatch done = new CountDownLatch(requests);
+        AtomicInteger failures = new AtomicInteger();
+        AtomicInteger index = new AtomicInteger();
+        long[] latencies = new long[requests];
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(60)).GET().build();
+
+        long start = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            users.acquire();
+            long sent = System.nanoTime();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, error) -> {
+                latencies[index.getAndIncrement()] = System.nanoTime() - sent;
+                if (error != null || response.statusCode() != 200) {
+                    failures.incrementAndGet();
+                }
+                users.release();
+                done.countDown();
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result("warmup", requests * 1_000_000_000.0 / elapsed,
+                latencies[(int) Math.ceil(requests * 0.99) - 1] / 1_000_000.0, failures.get());
+    }
+
+    private record Result(String mode, double throughput, double p99Millis, int failures) {
+
+        Result named(String name) {
+            return new Result(name, throughput, p99Millis, failures);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%-8s %d users: %.0f req/s, p99 %.1f ms, %d failures", mode,
+                    CONCURRENT_USERS, throughput, p99Millis, failures);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.springboot.EWDJ_IT_conferentie;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * A virtual thread that blocks inside a {@code synchronized} section pins its carrier
+ * thread on Java 21. Application code guards shared state with
+ * {@link java.util.concurrent.locks.ReentrantLock} or its read/write variant instead.
+ */
+public class VirtualThreadPinningTest {
+
+    private static final Pattern SYNCHRONIZED = Pattern.compile("\\bsynchronized\\b");
+
+    @Test
+    public void testNoSynchronizedSectionsInApplicationCode() throws IOException {
+        List<String> offenders;
+        try (Stream<Path> sources = Files.walk(Paths.get("src/main/java"))) {
+            offenders = sources.filter(path -> path.toString().endsWith(".java"))
+                    .filter(VirtualThreadPinningTest::usesSynchronized)
+                    .map(Path::toString)
+                    .toList();
+        }
+
+        assertTrue(offenders.isEmpty(), "Use a ReentrantLock instead of synchronized in: " + offenders);
+    }
+
+    private static boolean usesSynchronized(Path source) {
+        try {
+            return Files.readAllLines(source).stream()
+                    .map(String::trim)
+                    .filter(line -> !line.startsWith("*") && !line.startsWith("//"))
+                    .anyMatch(line -> SYNCHRONIZED.matcher(line).find());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}